@@ -0,0 +1,29 @@
+package com.taebin.travelsay.dto.trip.item.request;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간 이동 offset("±HH:mm") → 분 변환 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ShiftOffsetBenchmark {
+
+    @Param({"01:30", "-00:45", "+24:00"})
+    public String offset;
+
+    private ShiftItemsTimeRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new ShiftItemsTimeRequest(offset);
+    }
+
+    @Benchmark
+    public int offsetMinutes() {
+        return request.offsetMinutes();
+    }
+}
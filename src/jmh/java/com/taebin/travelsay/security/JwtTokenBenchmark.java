@@ -0,0 +1,40 @@
+package com.taebin.travelsay.security;
+
+import com.taebin.travelsay.config.JwtCacheProperties;
+import com.taebin.travelsay.config.JwtProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 / 필터에서 쓰는 토큰 발급·검증 비용 (검증 캐시 off)
+ * - createToken: 서명 포함 발급 1회
+ * - validate: 파싱 + HMAC 검증 1회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenBenchmark {
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder().encodeToString("benchmark-secret-key-0123456789-abcdef".getBytes());
+        JwtProperties props = new JwtProperties(secret, 60, "travelsay", "Authorization", "Bearer ");
+        provider = new JwtTokenProvider(props, new VerifiedTokenCache(new JwtCacheProperties(false, 1)));
+        token = provider.createToken("00000000-0000-0000-0000-000000000001", "bench-user", 3);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return provider.createToken("00000000-0000-0000-0000-000000000001", "bench-user", 3);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return provider.validate(token);
+    }
+}
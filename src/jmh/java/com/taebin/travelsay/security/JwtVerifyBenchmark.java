@@ -0,0 +1,60 @@
+package com.taebin.travelsay.security;
+
+import com.taebin.travelsay.config.JwtCacheProperties;
+import com.taebin.travelsay.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 필터 한 번 통과 비용 비교
+ * - threeParses: 이전 필터의 validate + getUsername + getVersion (파싱/HMAC 3회, 같은 키의 파서로 재현)
+ * - singleParse: verify 1회 (캐시 off)
+ * - cachedVerify: verify 1회 (검증 캐시 hit)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerifyBenchmark {
+
+    private JwtTokenProvider provider;
+    private JwtTokenProvider cachedProvider;
+    private JwtParser legacyParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder().encodeToString("benchmark-secret-key-0123456789-abcdef".getBytes());
+        legacyParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret)))
+                .build();
+        JwtProperties props = new JwtProperties(secret, 60, "travelsay", "Authorization", "Bearer ");
+        provider = new JwtTokenProvider(props, new VerifiedTokenCache(new JwtCacheProperties(false, 1)));
+        cachedProvider = new JwtTokenProvider(props, new VerifiedTokenCache(new JwtCacheProperties(true, 10_000)));
+        token = provider.createToken("00000000-0000-0000-0000-000000000001", "bench-user", 3);
+    }
+
+    @Benchmark
+    public void threeParses(Blackhole bh) {
+        bh.consume(legacyParser.parseClaimsJws(token) != null);
+        bh.consume(legacyParser.parseClaimsJws(token).getBody().getSubject());
+        Claims claims = legacyParser.parseClaimsJws(token).getBody();
+        bh.consume(claims.get("ver") instanceof Number n ? n.intValue() : null);
+    }
+
+    @Benchmark
+    public VerifiedClaims singleParse() {
+        return provider.verify(token).orElseThrow();
+    }
+
+    @Benchmark
+    public VerifiedClaims cachedVerify() {
+        return cachedProvider.verify(token).orElseThrow();
+    }
+}
@@ -0,0 +1,51 @@
+package com.taebin.travelsay.security;
+
+import java.util.Locale;
+
+/** 비교용: 스캐너 / PublicPaths 도입 전 필터의 파싱 로직 그대로 */
+final class LegacyAuthParsing {
+
+    private LegacyAuthParsing() {}
+
+    static String bearerToken(String header) {
+        if (isBlank(header)) return null;
+
+        final String h = header.trim();
+        final int spaceIdx = h.indexOf(' ');
+        if (spaceIdx <= 0) return null;
+
+        final String scheme = h.substring(0, spaceIdx).toLowerCase(Locale.ROOT);
+        if (!"bearer".equals(scheme)) return null;
+
+        String token = h.substring(spaceIdx + 1).trim();
+        if (isBlank(token)) return null;
+
+        if (!token.matches("^[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+$")) return null;
+        if (token.length() > 4096) return null;
+
+        return token;
+    }
+
+    static boolean isPublicPath(String p) {
+        if (p.startsWith("/css/") || p.startsWith("/js/") || p.startsWith("/img/")
+                || p.startsWith("/assets/") || p.startsWith("/fragments/")
+                || p.equals("/favicon.ico")) return true;
+
+        if (p.equals("/") || p.equals("/index.html") || p.equals("/login.html")
+                || p.equals("/signup.html") || p.equals("/profile-edit.html")
+                || p.equals("/withdraw.html") || p.equals("/my-plans.html")
+                || p.equals("/plan-edit.html") || p.equals("/plan-detail.html")) return true;
+
+        if (p.equals("/api/member/signup") || p.equals("/api/member/login")) return true;
+
+        if (p.startsWith("/swagger-ui/") || p.startsWith("/v3/api-docs")) return true;
+
+        if (p.equals("/actuator/health") || p.equals("/actuator/prometheus")) return true;
+
+        return false;
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.trim().isEmpty();
+    }
+}
@@ -0,0 +1,57 @@
+package com.taebin.travelsay.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost 별 처리량 (ops/s). strength 를 정할 때 참고
+ * - encode / matches: 스레드 1개 = 코어당 초당 해시 수
+ * - pooledMatches: 모든 코어에서 BoundedPasswordEncoder 경유 (코어 수로 나누면 코어당, 풀 오버헤드 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PasswordHashBenchmark {
+
+    private static final String RAW = "password123";
+
+    @Param({"8", "10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncoder bcrypt;
+    private BoundedPasswordEncoder pooled;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        bcrypt = new BCryptPasswordEncoder(strength);
+        int cores = Runtime.getRuntime().availableProcessors();
+        pooled = new BoundedPasswordEncoder(bcrypt, strength, cores, 1024);
+        hash = bcrypt.encode(RAW);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pooled.shutdown();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String encode() {
+        return bcrypt.encode(RAW);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean matches() {
+        return bcrypt.matches(RAW, hash);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean pooledMatches() {
+        return pooled.matches(RAW, hash);
+    }
+}
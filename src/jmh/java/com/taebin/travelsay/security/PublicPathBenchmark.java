@@ -0,0 +1,30 @@
+package com.taebin.travelsay.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * shouldNotFilter 의 공개 경로 판정: PublicPaths vs 이전 startsWith / equals 체인
+ * - api: 보호된 API (모든 조건을 다 거쳐야 false)
+ * - page: 체인 중간쯤 걸리는 공개 페이지
+ * - actuator: 체인 맨 끝에 걸리는 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicPathBenchmark {
+
+    @Param({"/api/trips/plans/42/detail", "/plan-detail.html", "/actuator/health"})
+    public String path;
+
+    @Benchmark
+    public boolean matcher() {
+        return PublicPaths.matches(path);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        return LegacyAuthParsing.isPublicPath(path);
+    }
+}
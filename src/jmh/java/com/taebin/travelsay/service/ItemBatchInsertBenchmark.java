@@ -0,0 +1,92 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.TravelsayApplication;
+import com.taebin.travelsay.domain.member.Member;
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.member.MemberRole;
+import com.taebin.travelsay.domain.member.MemberStatus;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemsRequest;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아이템 100개 추가 비용 비교 (H2 MySQL 모드)
+ * - singleAdds: addItem 100회
+ * - batchAdd: addItems 1회 (multi-row INSERT)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ItemBatchInsertBenchmark {
+
+    private static final int ITEMS = 100;
+
+    private ConfigurableApplicationContext ctx;
+    private TripService tripService;
+    private String memberId;
+    private Long planId;
+    private LocalDate nextDate = LocalDate.of(2000, 1, 1);
+    private Long dayId;
+    private List<CreateItemRequest> rows;
+
+    @Setup(Level.Trial)
+    public void startApp() {
+        ctx = new SpringApplicationBuilder(TravelsayApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jwt.secret=YmVuY2htYXJrLXNlY3JldC1rZXktMDEyMzQ1Njc4OS1hYmNkZWY=",
+                        "spring.jwt.expiration-minutes=60",
+                        "spring.jwt.issuer=travelsay-bench",
+                        "spring.jwt.header=Authorization",
+                        "spring.jwt.prefix=Bearer ",
+                        "logging.level.root=WARN")
+                .run();
+        tripService = ctx.getBean(TripService.class);
+
+        Member m = new Member();
+        m.setForSignup("bench", "{noop}pw", "bench@travelsay.com", "010-0000-0000",
+                MemberStatus.ACTIVE, MemberRole.USER);
+        memberId = ctx.getBean(MemberRepository.class).save(m).getMemberId();
+        planId = tripService.createPlan(memberId, new CreatePlanRequest("bench", false)).getId();
+
+        rows = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            rows.add(new CreateItemRequest("item " + i, LocalTime.of(9, 0), 1000, "merchant", null, null));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void newDay() {
+        dayId = tripService.addDay(planId, nextDate, memberId).getId();
+        nextDate = nextDate.plusDays(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApp() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public void singleAdds(Blackhole bh) {
+        for (CreateItemRequest r : rows) {
+            bh.consume(tripService.addItem(dayId, r, null, memberId));
+        }
+    }
+
+    @Benchmark
+    public Object batchAdd() {
+        return tripService.addItems(dayId, new CreateItemsRequest(null, rows), null, memberId);
+    }
+}
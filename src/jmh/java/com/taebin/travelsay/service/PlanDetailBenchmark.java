@@ -0,0 +1,101 @@
+package com.taebin.travelsay.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taebin.travelsay.TravelsayApplication;
+import com.taebin.travelsay.domain.member.Member;
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.member.MemberRole;
+import com.taebin.travelsay.domain.member.MemberStatus;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemsRequest;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import com.taebin.travelsay.dto.trip.plan.response.PlanDetailResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랜 상세 응답 비용 (H2 MySQL 모드, days x 10 아이템)
+ * - assemble: getPlanDetail (조회 3회 + 메모리 조립)
+ * - serialize: 조립된 응답의 JSON 직렬화 (앱의 ObjectMapper)
+ * - assembleAndSerialize: 컨트롤러가 하는 일 전체
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlanDetailBenchmark {
+
+    private static final int ITEMS_PER_DAY = 10;
+
+    @Param({"3", "14"})
+    public int days;
+
+    private ConfigurableApplicationContext ctx;
+    private TripService tripService;
+    private ObjectMapper objectMapper;
+    private String memberId;
+    private Long planId;
+    private PlanDetailResponse detail;
+
+    @Setup(Level.Trial)
+    public void startApp() {
+        ctx = new SpringApplicationBuilder(TravelsayApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jwt.secret=YmVuY2htYXJrLXNlY3JldC1rZXktMDEyMzQ1Njc4OS1hYmNkZWY=",
+                        "spring.jwt.expiration-minutes=60",
+                        "spring.jwt.issuer=travelsay-bench",
+                        "spring.jwt.header=Authorization",
+                        "spring.jwt.prefix=Bearer ",
+                        "logging.level.root=WARN")
+                .run();
+        tripService = ctx.getBean(TripService.class);
+        objectMapper = ctx.getBean(ObjectMapper.class);
+
+        Member m = new Member();
+        m.setForSignup("bench", "{noop}pw", "bench@travelsay.com", "010-0000-0000",
+                MemberStatus.ACTIVE, MemberRole.USER);
+        memberId = ctx.getBean(MemberRepository.class).save(m).getMemberId();
+        planId = tripService.createPlan(memberId, new CreatePlanRequest("bench", false)).getId();
+
+        List<CreateItemRequest> rows = new ArrayList<>(ITEMS_PER_DAY);
+        for (int i = 0; i < ITEMS_PER_DAY; i++) {
+            rows.add(new CreateItemRequest("item " + i, LocalTime.of(9 + i, 0), 1000, "merchant", "memo", null));
+        }
+        LocalDate start = LocalDate.of(2026, 5, 1);
+        for (int d = 0; d < days; d++) {
+            Long dayId = tripService.addDay(planId, start.plusDays(d), memberId).getId();
+            tripService.addItems(dayId, new CreateItemsRequest(null, rows), null, memberId);
+        }
+        detail = tripService.getPlanDetail(planId, memberId);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApp() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public PlanDetailResponse assemble() {
+        return tripService.getPlanDetail(planId, memberId);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(detail);
+    }
+
+    @Benchmark
+    public String assembleAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(tripService.getPlanDetail(planId, memberId));
+    }
+}
@@ -0,0 +1,24 @@
+package com.taebin.travelsay.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "spring.jwt.cache")
+public class JwtCacheProperties {
+
+    private final boolean enabled;
+
+    @Min(1)
+    private final int maxSize;
+
+    public JwtCacheProperties(@DefaultValue("true") boolean enabled,
+                              @DefaultValue("10000") int maxSize) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+    }
+}
@@ -0,0 +1,105 @@
+package com.taebin.travelsay.config;
+
+import com.taebin.travelsay.metrics.ServiceMetricsAspect;
+import com.taebin.travelsay.security.BoundedPasswordEncoder;
+import com.taebin.travelsay.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Actuator / Prometheus 메트릭 설정 (노출 endpoint 기본값은 metrics.properties)
+ * - trip.service / member.service: 서비스 public 메서드 (ServiceMetricsAspect)
+ * - spring.data.repository.invocations: 리포지토리 메서드 (Spring Data 기본 계측, 예외 태그 제외)
+ * - auth.filter.*: JWT 필터 단계별 (AuthMetrics)
+ * - password.hash.queue: BCrypt 풀 대기열 길이 (queue-capacity 에 닿으면 503)
+ * - auth.token.cache.*: 검증된 JWT 캐시 적중 / 미스 / 밀어냄 / 크기 (VerifiedTokenCache)
+ */
+@Configuration
+@RequiredArgsConstructor
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    private final MetricsProperties metricsProperties;
+
+    /** 서비스 메서드는 고정 버킷 몇 개, 지정한 메서드만 촘촘한 버킷 */
+    @Bean
+    public MeterFilter serviceHistogramFilter() {
+        double[] buckets = metricsProperties.getServiceBuckets().stream()
+                .mapToDouble(d -> (double) d.toNanos())
+                .toArray();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!ServiceMetricsAspect.TRIP_SERVICE.equals(id.getName())
+                        && !ServiceMetricsAspect.MEMBER_SERVICE.equals(id.getName())) return config;
+
+                DistributionStatisticConfig.Builder b = DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(buckets);
+                if (metricsProperties.getHistogramMethods().contains(id.getTag("method"))) {
+                    b.percentilesHistogram(true)
+                            .minimumExpectedValue((double) metricsProperties.getHistogramMin().toNanos())
+                            .maximumExpectedValue((double) metricsProperties.getHistogramMax().toNanos());
+                }
+                return b.build().merge(config);
+            }
+        };
+    }
+
+    /** 리포지토리 계측 태그에서 exception(예외 클래스명) 을 빼고 state(SUCCESS / ERROR) 만 남긴다 */
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        DefaultRepositoryTagsProvider defaults = new DefaultRepositoryTagsProvider();
+        return invocation -> {
+            Tags tags = Tags.empty();
+            for (Tag tag : defaults.repositoryTags(invocation)) {
+                if (!"exception".equals(tag.getKey())) tags = tags.and(tag);
+            }
+            return tags;
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHashQueueGauge(PasswordEncoder passwordEncoder) {
+        return registry -> {
+            if (passwordEncoder instanceof BoundedPasswordEncoder bounded) {
+                Gauge.builder("password.hash.queue", bounded, BoundedPasswordEncoder::queued)
+                        .description("BCrypt 해시 대기 요청 수")
+                        .register(registry);
+            }
+        };
+    }
+
+    /** 캐시가 이미 세고 있는 누적값을 스크레이프 시점에 읽기만 한다 */
+    @Bean
+    public MeterBinder verifiedTokenCacheMetrics(VerifiedTokenCache cache) {
+        return registry -> {
+            FunctionCounter.builder("auth.token.cache.gets", cache, c -> c.stats().hits())
+                    .tag("result", "hit")
+                    .description("검증된 JWT 캐시 조회")
+                    .register(registry);
+            FunctionCounter.builder("auth.token.cache.gets", cache, c -> c.stats().misses())
+                    .tag("result", "miss")
+                    .description("검증된 JWT 캐시 조회")
+                    .register(registry);
+            FunctionCounter.builder("auth.token.cache.evictions", cache, c -> c.stats().evictions())
+                    .description("만료 / 크기 초과로 밀려난 엔트리")
+                    .register(registry);
+            Gauge.builder("auth.token.cache.size", cache, c -> c.stats().size())
+                    .description("검증된 JWT 캐시 엔트리 수")
+                    .register(registry);
+        };
+    }
+}
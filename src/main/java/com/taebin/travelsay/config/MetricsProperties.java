@@ -0,0 +1,42 @@
+package com.taebin.travelsay.config;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "spring.trip.metrics")
+public class MetricsProperties {
+
+    // 모든 서비스 메서드가 내보내는 고정 버킷 (Prometheus 는 같은 이름의 타입이 섞이면 안 되므로 전부 히스토그램)
+    @NotNull
+    private final List<Duration> serviceBuckets;
+
+    // 촘촘한 버킷까지 내보낼 서비스 메서드 (p99 를 histogram_quantile 로 볼 대상)
+    @NotNull
+    private final Set<String> histogramMethods;
+
+    // 촘촘한 버킷 범위. 이 밖은 +Inf 하나로 묶여서 시계열 수가 고정된다
+    @NotNull
+    private final Duration histogramMin;
+
+    @NotNull
+    private final Duration histogramMax;
+
+    public MetricsProperties(@DefaultValue({"5ms", "25ms", "100ms", "250ms", "1s"}) List<Duration> serviceBuckets,
+                             @DefaultValue({"getPlanDetail", "reorder"}) Set<String> histogramMethods,
+                             @DefaultValue("1ms") Duration histogramMin,
+                             @DefaultValue("5s") Duration histogramMax) {
+        this.serviceBuckets = serviceBuckets;
+        this.histogramMethods = histogramMethods;
+        this.histogramMin = histogramMin;
+        this.histogramMax = histogramMax;
+    }
+}
@@ -0,0 +1,34 @@
+package com.taebin.travelsay.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "spring.member.password-hashing")
+public class PasswordHashingProperties {
+
+    // BCrypt cost (2^strength 라운드). 바꾸면 로그인 시 저장된 해시를 새 cost 로 다시 만든다
+    @Min(4) @Max(31)
+    private final int strength;
+
+    // 해시 전용 스레드 수. 0 이면 코어 수
+    @Min(0)
+    private final int threads;
+
+    // 스레드가 모두 바쁠 때 대기시킬 요청 수. 넘치면 바로 503
+    @Min(0)
+    private final int queueCapacity;
+
+    public PasswordHashingProperties(@DefaultValue("10") int strength,
+                                     @DefaultValue("0") int threads,
+                                     @DefaultValue("64") int queueCapacity) {
+        this.strength = strength;
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+    }
+}
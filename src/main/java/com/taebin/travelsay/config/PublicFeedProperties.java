@@ -0,0 +1,29 @@
+package com.taebin.travelsay.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "spring.trip.public-feed")
+public class PublicFeedProperties {
+
+    // 메모리에 들고 있는 피드 앞부분 행 수 (앞 페이지들은 여기서 바로 응답)
+    @Min(0)
+    private final int headSize;
+
+    @NotNull
+    private final Duration ttl;
+
+    public PublicFeedProperties(@DefaultValue("200") int headSize,
+                                @DefaultValue("30s") Duration ttl) {
+        this.headSize = headSize;
+        this.ttl = ttl;
+    }
+}
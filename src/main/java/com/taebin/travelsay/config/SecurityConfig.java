@@ -1,6 +1,7 @@
 package com.taebin.travelsay.config;
 
 
+import com.taebin.travelsay.security.BoundedPasswordEncoder;
 import com.taebin.travelsay.security.JwtAuthenticationFilter;
 import com.taebin.travelsay.security.MemberDetailsService;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +15,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -26,6 +26,7 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final MemberDetailsService memberDetailsService;
+    private final PasswordHashingProperties passwordHashingProperties;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -43,6 +44,12 @@ public class SecurityConfig {
 
                         .requestMatchers(HttpMethod.POST, "/api/member/logout").permitAll()
 
+                        .requestMatchers(HttpMethod.GET, "/api/trips/plans/public").permitAll()
+
+                        // 헬스체크만 공개. 메트릭(엔드포인트별 지연 / SQL / 인증 실패)은 ADMIN 토큰으로만 스크레이프
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         .requestMatchers("/api/**").authenticated()
 
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**").permitAll()
@@ -53,9 +60,10 @@ public class SecurityConfig {
         return http.build();
     }
 
-    @Bean
+    // BCrypt 는 요청 스레드가 아닌 전용 풀에서 (종료 시 shutdown)
+    @Bean(destroyMethod = "shutdown")
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(passwordHashingProperties);
     }
 
     @Bean
@@ -0,0 +1,20 @@
+package com.taebin.travelsay.config;
+
+import com.taebin.travelsay.metrics.SqlStatsListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/** 요청별 SQL 한도 (SqlBudgetFilter). endpoint 별 기본 한도 표는 sql-budget.yml */
+@Configuration
+@PropertySource(value = "classpath:sql-budget.yml", factory = YamlPropertySourceFactory.class)
+public class SqlBudgetConfig {
+
+    /** 세션마다 SqlStatsListener 를 붙인다 (요청 밖에서는 아무것도 세지 않음) */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatsListenerCustomizer() {
+        return props -> props.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatsListener.class.getName());
+    }
+}
@@ -0,0 +1,42 @@
+package com.taebin.travelsay.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.Map;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "spring.trip.sql-budget")
+public class SqlBudgetProperties {
+
+    private final boolean enabled;
+
+    // X-Sql-Count / X-Sql-Time-Ms 응답 헤더. 기본 꺼짐, 테스트 / dev 설정에서 켬 (prod 프로파일에서는 이 값과 무관하게 끔)
+    private final boolean exposeHeaders;
+
+    // 표에 없는 endpoint 의 한도
+    @Min(1)
+    private final int defaultBudget;
+
+    // "METHOD /매핑/패턴" → 요청 하나의 최대 statement 수 (기본 표는 sql-budget.yml)
+    private final Map<String, Integer> budgets;
+
+    public SqlBudgetProperties(@DefaultValue("true") boolean enabled,
+                               @DefaultValue("false") boolean exposeHeaders,
+                               @DefaultValue("10") int defaultBudget,
+                               Map<String, Integer> budgets) {
+        this.enabled = enabled;
+        this.exposeHeaders = exposeHeaders;
+        this.defaultBudget = defaultBudget;
+        this.budgets = budgets == null ? Map.of() : Map.copyOf(budgets);
+    }
+
+    /** method + 매핑 패턴 (예: "GET /api/trips/plans/{planId}/detail") */
+    public int budgetFor(String method, String pattern) {
+        return budgets.getOrDefault(method + " " + pattern, defaultBudget);
+    }
+}
@@ -0,0 +1,33 @@
+package com.taebin.travelsay.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "spring.jwt.version-cache")
+public class TokenVersionCacheProperties {
+
+    private final boolean enabled;
+
+    @Min(1)
+    private final int maxSize;
+
+    // 다중 노드에서 다른 노드의 bump를 놓쳤을 때 허용하는 최대 지연
+    @NotNull
+    private final Duration maxStaleness;
+
+    public TokenVersionCacheProperties(@DefaultValue("true") boolean enabled,
+                                       @DefaultValue("10000") int maxSize,
+                                       @DefaultValue("30s") Duration maxStaleness) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.maxStaleness = maxStaleness;
+    }
+}
@@ -0,0 +1,38 @@
+package com.taebin.travelsay.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "spring.trip.delete")
+public class TripDeleteProperties {
+
+    public enum Mode { IMMEDIATE, SOFT }
+
+    // IMMEDIATE: 요청 안에서 item / day / plan 벌크 삭제 (기존 방식)
+    // SOFT: deleted_at 만 찍고 바로 반환, TripPlanPurger 가 chunk 단위로 정리
+    // (purge 주기는 spring.trip.delete.purge-interval, 기본 PT10S)
+    @NotNull
+    private final Mode mode;
+
+    // purge 시 트랜잭션 하나에서 지우는 최대 행 수
+    @Min(1)
+    private final int purgeChunkSize;
+
+    // purge 1회 실행에서 정리할 최대 플랜 수
+    @Min(1)
+    private final int purgePlansPerRun;
+
+    public TripDeleteProperties(@DefaultValue("IMMEDIATE") Mode mode,
+                                @DefaultValue("500") int purgeChunkSize,
+                                @DefaultValue("10") int purgePlansPerRun) {
+        this.mode = mode;
+        this.purgeChunkSize = purgeChunkSize;
+        this.purgePlansPerRun = purgePlansPerRun;
+    }
+}
@@ -0,0 +1,31 @@
+package com.taebin.travelsay.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "spring.trip.ordering")
+public class TripOrderingProperties {
+
+    public enum Mode { DENSE, SPARSE }
+
+    // DENSE: order_no = 1..n 연속 (기존 방식)
+    // SPARSE: order_no 를 gap 간격의 정렬 키로 사용, 응답의 orderNo 는 순번으로 환산
+    // SPARSE → DENSE 로 되돌릴 때는 day 별 order_no 를 1..n 으로 재번호해야 한다
+    @NotNull
+    private final Mode mode;
+
+    @Min(2)
+    private final int gap;
+
+    public TripOrderingProperties(@DefaultValue("DENSE") Mode mode,
+                                  @DefaultValue("1024") int gap) {
+        this.mode = mode;
+        this.gap = gap;
+    }
+}
@@ -0,0 +1,22 @@
+package com.taebin.travelsay.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "spring.trip.totals")
+public class TripTotalsProperties {
+
+    // 합계 재계산 시 트랜잭션 하나에서 확인하는 최대 Day / Plan 수 (id 순 구간)
+    // (주기는 spring.trip.totals.reconcile-interval, 기본 PT1H. 기동 시에도 한 번)
+    @Min(1)
+    private final int reconcileChunkSize;
+
+    public TripTotalsProperties(@DefaultValue("500") int reconcileChunkSize) {
+        this.reconcileChunkSize = reconcileChunkSize;
+    }
+}
@@ -0,0 +1,20 @@
+package com.taebin.travelsay.config;
+
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PropertySourceFactory;
+
+import java.io.IOException;
+import java.util.List;
+
+/** @PropertySource 로 yml 을 읽기 위한 팩토리 (문서가 하나인 파일만) */
+class YamlPropertySourceFactory implements PropertySourceFactory {
+
+    @Override
+    public PropertySource<?> createPropertySource(String name, EncodedResource resource) throws IOException {
+        String sourceName = name != null ? name : resource.getResource().getFilename();
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader().load(sourceName, resource.getResource());
+        return sources.get(0);
+    }
+}
@@ -1,15 +1,29 @@
 package com.taebin.travelsay.controller;
 
+import com.taebin.travelsay.domain.trip.TripDay;
+import com.taebin.travelsay.domain.trip.TripItem;
+import com.taebin.travelsay.domain.trip.TripPlan;
+import com.taebin.travelsay.security.PasswordHashingBusyException;
+import com.taebin.travelsay.service.TripService;
+import com.taebin.travelsay.service.VersionConflictException;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final TripService tripService;
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String,Object>> handleBadRequest(IllegalArgumentException e) {
         return ResponseEntity.badRequest().body(Map.of(
@@ -18,6 +32,37 @@ public class GlobalExceptionHandler {
         ));
     }
 
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<Map<String,Object>> handleConflict(VersionConflictException e) {
+        Object current = e.getCurrent();
+        if (current == null && e.getId() != null) current = tripService.currentState(e.getTarget(), e.getId());
+        return conflict(e.getMessage(), current);
+    }
+
+    // 확인 후 커밋 전에 다른 요청이 먼저 커밋한 경우 (@Version 검사 실패). 롤백 뒤라 커밋된 현재 상태를 다시 읽어 싣는다
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String,Object>> handleStale(ObjectOptimisticLockingFailureException e) {
+        String target = targetOf(e.getPersistentClassName());
+        Object current = (target != null && e.getIdentifier() instanceof Long id)
+                ? tripService.currentState(target, id) : null;
+        return conflict("다른 곳에서 먼저 수정되었습니다. 다시 조회 후 시도하세요.", current);
+    }
+
+    private static ResponseEntity<Map<String,Object>> conflict(String message, Object current) {
+        Map<String,Object> body = new LinkedHashMap<>();
+        body.put("code", "CONFLICT");
+        body.put("message", message);
+        if (current != null) body.put("current", current);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    private static String targetOf(String persistentClassName) {
+        if (TripPlan.class.getName().equals(persistentClassName)) return "plan";
+        if (TripDay.class.getName().equals(persistentClassName)) return "day";
+        if (TripItem.class.getName().equals(persistentClassName)) return "item";
+        return null;
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<Map<String,Object>> handleAuth(IllegalStateException e) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of(
@@ -25,5 +70,33 @@ public class GlobalExceptionHandler {
                 "message", e.getMessage()
         ));
     }
-}
 
+    // 없는 대상이거나 삭제된 플랜 (메시지는 대상 종류: plan / day / item)
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<Map<String,Object>> handleNotFound(EntityNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                "code", "NOT_FOUND",
+                "message", e.getMessage()
+        ));
+    }
+
+    // 다른 회원 소유의 플랜 / Day / 아이템
+    @ExceptionHandler(SecurityException.class)
+    public ResponseEntity<Map<String,Object>> handleForbidden(SecurityException e) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
+                "code", "FORBIDDEN",
+                "message", e.getMessage()
+        ));
+    }
+
+    // 해시 풀 대기열이 찼음. 클라이언트는 Retry-After 후 재시도
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String,Object>> handleBusy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of(
+                        "code", "SERVICE_UNAVAILABLE",
+                        "message", e.getMessage()
+                ));
+    }
+}
@@ -8,6 +8,7 @@ import com.taebin.travelsay.dto.member.response.AuthResponse;
 import com.taebin.travelsay.dto.member.response.MeResponse;
 import com.taebin.travelsay.dto.member.response.UpdateProfileResponse;
 import com.taebin.travelsay.security.MemberDetails;
+import com.taebin.travelsay.security.VerifiedClaims;
 import com.taebin.travelsay.service.MemberService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -49,8 +50,8 @@ public class MemberApiController {
 
         Integer tv = null;
         var auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null && auth.getDetails() instanceof Integer v) {
-            tv = v;
+        if (auth != null && auth.getDetails() instanceof VerifiedClaims claims) {
+            tv = claims.version();
         }
         if (tv == null) {
             Object v = request.getAttribute("jwtVersion");
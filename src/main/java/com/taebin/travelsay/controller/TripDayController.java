@@ -1,9 +1,9 @@
 package com.taebin.travelsay.controller;
 
 
-import com.taebin.travelsay.domain.trip.TripItem;
 import com.taebin.travelsay.dto.trip.item.request.ShiftItemsTimeRequest;
 import com.taebin.travelsay.dto.trip.item.response.ItemResponse;
+import com.taebin.travelsay.dto.trip.item.response.ItemTimeRow;
 import com.taebin.travelsay.security.MemberDetails;
 import com.taebin.travelsay.service.TripService;
 import jakarta.validation.Valid;
@@ -12,8 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @RestController
@@ -32,42 +30,18 @@ public class TripDayController {
 
     @DeleteMapping("/{dayId}")
     public ResponseEntity<Void> removeDay(@PathVariable Long dayId,
+                                          @RequestParam(required = false) Long version,
                                           @AuthenticationPrincipal MemberDetails principal) {
-        tripService.removeDay(dayId, mid(principal));
+        tripService.removeDay(dayId, version, mid(principal));
         return ResponseEntity.noContent().build();
     }
 
     @PatchMapping("/{dayId}/items/shift-time")
     public ResponseEntity<List<ItemResponse>> shiftTimes(@PathVariable Long dayId,
                                                          @Valid @RequestBody ShiftItemsTimeRequest request,
+                                                         @RequestParam(required = false) Long version,
                                                          @AuthenticationPrincipal MemberDetails principal) {
-        int minutes = parseOffsetToMinutes(request.offset());
-        List<TripItem> items = tripService.shiftTimesForDay(dayId, minutes, mid(principal));
-
-        List<ItemResponse> body = items.stream()
-                .map(i -> new ItemResponse(
-                        i.getId(),
-                        i.getTitle(),
-                        i.getStartTime(),
-                        i.getAmount(),
-                        i.getMerchant(),
-                        i.getMemo(),
-                        i.getOrderNo()
-                ))
-                .toList();
-
-        return ResponseEntity.ok(body);
-    }
-
-    // "HH:mm"  minutes 로 변환.
-    private int parseOffsetToMinutes(String offset) {
-        boolean negative = offset.startsWith("-");
-        String s = offset.replaceFirst("^[+-]", "");
-        if ("24:00".equals(s)) return negative ? -1440 : 1440;
-
-        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("H:mm");
-        LocalTime t = LocalTime.parse(s, fmt);
-        int minutes = t.getHour() * 60 + t.getMinute();
-        return negative ? -minutes : minutes;
+        List<ItemTimeRow> rows = tripService.shiftTimesForDay(dayId, request.offsetMinutes(), version, mid(principal));
+        return ResponseEntity.ok(ItemResponse.fromTimeRows(rows));
     }
 }
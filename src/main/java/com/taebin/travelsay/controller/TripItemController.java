@@ -3,7 +3,9 @@ package com.taebin.travelsay.controller;
 
 import com.taebin.travelsay.domain.trip.TripItem;
 import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemsRequest;
 import com.taebin.travelsay.dto.trip.item.request.MoveItemRequest;
+import com.taebin.travelsay.dto.trip.item.request.ReorderDayItemsRequest;
 import com.taebin.travelsay.dto.trip.item.request.ReorderItemRequest;
 import com.taebin.travelsay.dto.trip.item.request.UpdateItemRequest;
 import com.taebin.travelsay.dto.trip.item.response.ItemResponse;
@@ -11,12 +13,14 @@ import com.taebin.travelsay.security.MemberDetails;
 import com.taebin.travelsay.service.TripService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @RestController
 @RequestMapping("/api/trips")
@@ -36,54 +40,90 @@ public class TripItemController {
     public ResponseEntity<List<ItemResponse>> listItems(@PathVariable Long dayId,
                                                         @AuthenticationPrincipal MemberDetails principal) {
         List<TripItem> items = tripService.listItems(dayId, mid(principal));
-        return ResponseEntity.ok(items.stream()
-                .map(i -> new ItemResponse(
-                        i.getId(), i.getTitle(), i.getStartTime(), i.getAmount(),
-                        i.getMerchant(), i.getMemo(), i.getOrderNo()
-                ))
+        // 정렬된 목록이므로 순번 = index + 1
+        return ResponseEntity.ok(IntStream.range(0, items.size())
+                .mapToObj(idx -> {
+                    TripItem i = items.get(idx);
+                    return new ItemResponse(
+                            i.getId(), i.getTitle(), i.getStartTime(), i.getAmount(),
+                            i.getMerchant(), i.getMemo(), idx + 1, i.getVersion()
+                    );
+                })
                 .toList());
     }
 
     @PostMapping("/days/{dayId}/items")
     public ResponseEntity<ItemResponse> addItem(@PathVariable Long dayId,
                                                 @Valid @RequestBody CreateItemRequest request,
+                                                @RequestParam(required = false) Long version,
                                                 @AuthenticationPrincipal MemberDetails principal) {
-        TripItem i = tripService.addItem(dayId, request, mid(principal));
+        TripItem i = tripService.addItem(dayId, request, version, mid(principal));
         return ResponseEntity
                 .created(URI.create("/api/trips/items/" + i.getId()))
                 .body(new ItemResponse(i.getId(), i.getTitle(), i.getStartTime(),
-                        i.getAmount(), i.getMerchant(), i.getMemo(), i.getOrderNo()));
+                        i.getAmount(), i.getMerchant(), i.getMemo(), tripService.positionOf(i), i.getVersion()));
+    }
+
+    @PostMapping("/days/{dayId}/items/batch")
+    public ResponseEntity<List<ItemResponse>> addItems(@PathVariable Long dayId,
+                                                       @Valid @RequestBody CreateItemsRequest request,
+                                                       @RequestParam(required = false) Long version,
+                                                       @AuthenticationPrincipal MemberDetails principal) {
+        List<TripItem> items = tripService.addItems(dayId, request, version, mid(principal));
+        int first = (items.isEmpty()) ? 1 : tripService.positionOf(items.get(0));
+        return ResponseEntity.status(HttpStatus.CREATED).body(IntStream.range(0, items.size())
+                .mapToObj(idx -> {
+                    TripItem i = items.get(idx);
+                    return new ItemResponse(
+                            i.getId(), i.getTitle(), i.getStartTime(), i.getAmount(),
+                            i.getMerchant(), i.getMemo(), first + idx, i.getVersion()
+                    );
+                })
+                .toList());
+    }
+
+    @PutMapping("/days/{dayId}/items/order")
+    public ResponseEntity<Void> reorderDay(@PathVariable Long dayId,
+                                           @Valid @RequestBody ReorderDayItemsRequest request,
+                                           @RequestParam(required = false) Long version,
+                                           @AuthenticationPrincipal MemberDetails principal) {
+        tripService.reorderDay(dayId, request.itemIds(), version, mid(principal));
+        return ResponseEntity.noContent().build();
     }
 
     @PatchMapping("/items/{itemId}")
     public ResponseEntity<ItemResponse> updateItem(@PathVariable Long itemId,
                                                    @Valid @RequestBody UpdateItemRequest request,
+                                                   @RequestParam(required = false) Long version,
                                                    @AuthenticationPrincipal MemberDetails principal) {
-        TripItem i = tripService.updateItem(itemId, request, mid(principal));
+        TripItem i = tripService.updateItem(itemId, request, version, mid(principal));
         return ResponseEntity.ok(new ItemResponse(i.getId(), i.getTitle(), i.getStartTime(),
-                i.getAmount(), i.getMerchant(), i.getMemo(), i.getOrderNo()));
+                i.getAmount(), i.getMerchant(), i.getMemo(), tripService.positionOf(i), i.getVersion()));
     }
 
     @DeleteMapping("/items/{itemId}")
     public ResponseEntity<Void> deleteItem(@PathVariable Long itemId,
+                                           @RequestParam(required = false) Long version,
                                            @AuthenticationPrincipal MemberDetails principal) {
-        tripService.deleteItem(itemId, mid(principal));
+        tripService.deleteItem(itemId, version, mid(principal));
         return ResponseEntity.noContent().build();
     }
 
     @PatchMapping("/items/{itemId}/order")
     public ResponseEntity<Void> reorder(@PathVariable Long itemId,
                                         @Valid @RequestBody ReorderItemRequest request,
+                                        @RequestParam(required = false) Long version,
                                         @AuthenticationPrincipal MemberDetails principal){
-        tripService.reorder(itemId, request.newOrderNo(), mid(principal));
+        tripService.reorder(itemId, request.newOrderNo(), version, mid(principal));
         return ResponseEntity.noContent().build();
     }
 
     @PatchMapping("/items/{itemId}/move")
     public ResponseEntity<Void> move(@PathVariable Long itemId,
                                      @Valid @RequestBody MoveItemRequest request,
+                                     @RequestParam(required = false) Long version,
                                      @AuthenticationPrincipal MemberDetails principal) {
-        tripService.moveItem(itemId, request.targetDayId(), request.newOrderNo(), mid(principal));
+        tripService.moveItem(itemId, request.targetDayId(), request.newOrderNo(), version, mid(principal));
         return ResponseEntity.noContent().build();
     }
 
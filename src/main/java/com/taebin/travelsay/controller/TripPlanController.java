@@ -5,12 +5,18 @@ import com.taebin.travelsay.domain.trip.TripDay;
 import com.taebin.travelsay.domain.trip.TripPlan;
 import com.taebin.travelsay.dto.trip.day.request.CreateDayRequest;
 import com.taebin.travelsay.dto.trip.day.response.DayResponse;
+import com.taebin.travelsay.dto.trip.item.request.ShiftItemsTimeRequest;
+import com.taebin.travelsay.dto.trip.item.response.ItemResponse;
+import com.taebin.travelsay.dto.trip.item.response.ItemTimeRow;
 import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
 import com.taebin.travelsay.dto.trip.plan.request.UpdatePlanRequest;
+import com.taebin.travelsay.dto.trip.plan.response.MyPlanPage;
 import com.taebin.travelsay.dto.trip.plan.response.MyPlanRow;
 import com.taebin.travelsay.dto.trip.plan.response.PlanDetailResponse;
 import com.taebin.travelsay.dto.trip.plan.response.PlanResponse;
+import com.taebin.travelsay.dto.trip.plan.response.PublicPlanPage;
 import com.taebin.travelsay.security.MemberDetails;
+import com.taebin.travelsay.service.PublicPlanFeedService;
 import com.taebin.travelsay.service.TripService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +33,7 @@ import java.util.List;
 public class TripPlanController {
 
     private final TripService tripService;
+    private final PublicPlanFeedService publicPlanFeedService;
 
     private String mid(MemberDetails memberDetails) {
         if (memberDetails == null) {
@@ -43,11 +50,24 @@ public class TripPlanController {
         return ResponseEntity.ok(rows);
     }
 
+    @GetMapping("/my/page")
+    public ResponseEntity<MyPlanPage> myPlanPage(@RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "20") int size,
+                                                 @AuthenticationPrincipal MemberDetails principal) {
+        return ResponseEntity.ok(tripService.getMyPlansPage(mid(principal), cursor, size));
+    }
+
+    @GetMapping("/public")
+    public ResponseEntity<PublicPlanPage> publicPlans(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(publicPlanFeedService.getPage(cursor, size));
+    }
+
     @GetMapping("/{planId}")
     public ResponseEntity<PlanResponse> getPlan(@PathVariable Long planId,
                                                 @AuthenticationPrincipal MemberDetails principal) {
         TripPlan p = tripService.getOwnedPlanOrThrow(planId, mid(principal));
-        return ResponseEntity.ok(new PlanResponse(p.getId(), p.getTitle(), p.isPublic(), p.isCompleted()));
+        return ResponseEntity.ok(new PlanResponse(p.getId(), p.getTitle(), p.isPublic(), p.isCompleted(), p.getVersion()));
     }
 
     @GetMapping("/{planId}/detail")
@@ -55,41 +75,7 @@ public class TripPlanController {
             @PathVariable Long planId,
             @AuthenticationPrincipal MemberDetails principal
     ) {
-        String memberId = mid(principal);
-
-        TripPlan plan = tripService.getOwnedPlanOrThrow(planId, memberId);
-
-
-        List<TripDay> days = tripService.listDays(planId, memberId);
-
-        // Day + Item 매핑
-        List<PlanDetailResponse.DayRow> dayRows = days.stream().map(d -> {
-            java.util.List<com.taebin.travelsay.domain.trip.TripItem> items =
-                    tripService.listItems(d.getId(), memberId);
-
-            List<PlanDetailResponse.ItemRow> itemRows = items.stream()
-                    .map(i -> new PlanDetailResponse.ItemRow(
-                            i.getId(),
-                            i.getStartTime(),
-                            i.getTitle(),
-                            i.getAmount(),
-                            i.getMerchant(),
-                            i.getMemo()
-                    ))
-                    .toList();
-
-            return new PlanDetailResponse.DayRow(d.getId(), d.getTripDate(), itemRows);
-        }).toList();
-
-        PlanDetailResponse body = new PlanDetailResponse(
-                plan.getId(),
-                plan.getTitle(),
-                plan.isPublic(),
-                plan.isCompleted(),
-                dayRows
-        );
-
-        return ResponseEntity.ok(body);
+        return ResponseEntity.ok(tripService.getPlanDetail(planId, mid(principal)));
     }
 
 
@@ -100,30 +86,42 @@ public class TripPlanController {
         TripPlan plan = tripService.createPlan(mid(principal), request);
         return ResponseEntity
                 .created(URI.create("/api/trips/plans/" + plan.getId()))
-                .body(new PlanResponse(plan.getId(), plan.getTitle(), plan.isPublic(), plan.isCompleted()));
+                .body(new PlanResponse(plan.getId(), plan.getTitle(), plan.isPublic(), plan.isCompleted(), plan.getVersion()));
     }
 
     @PatchMapping("/{planId}")
     public ResponseEntity<PlanResponse> updatePlan(@PathVariable Long planId,
                                                    @Valid @RequestBody UpdatePlanRequest request,
+                                                   @RequestParam(required = false) Long version,
                                                    @AuthenticationPrincipal MemberDetails principal) {
-        TripPlan plan = tripService.updatePlan(planId, request, mid(principal));
-        return ResponseEntity.ok(new PlanResponse(plan.getId(), plan.getTitle(), plan.isPublic(), plan.isCompleted()));
+        TripPlan plan = tripService.updatePlan(planId, request, version, mid(principal));
+        return ResponseEntity.ok(new PlanResponse(plan.getId(), plan.getTitle(), plan.isPublic(), plan.isCompleted(), plan.getVersion()));
     }
 
     @DeleteMapping("/{planId}")
     public ResponseEntity<Void> deletePlan(@PathVariable Long planId,
+                                           @RequestParam(required = false) Long version,
                                            @AuthenticationPrincipal MemberDetails principal) {
-        tripService.deletePlan(planId, mid(principal));
+        tripService.deletePlan(planId, version, mid(principal));
         return ResponseEntity.noContent().build();
     }
 
+    /** Plan 의 모든 Day 시작 시각을 같은 만큼 이동 (Day 날짜순, Day 안에서는 순서대로. orderNo 는 Day 안의 순번) */
+    @PatchMapping("/{planId}/items/shift-time")
+    public ResponseEntity<List<ItemResponse>> shiftTimes(@PathVariable Long planId,
+                                                         @Valid @RequestBody ShiftItemsTimeRequest request,
+                                                         @RequestParam(required = false) Long version,
+                                                         @AuthenticationPrincipal MemberDetails principal) {
+        List<ItemTimeRow> rows = tripService.shiftTimesForPlan(planId, request.offsetMinutes(), version, mid(principal));
+        return ResponseEntity.ok(ItemResponse.fromTimeRows(rows));
+    }
+
     @GetMapping("/{planId}/days")
     public ResponseEntity<List<DayResponse>> listDays(@PathVariable Long planId,
                                                       @AuthenticationPrincipal MemberDetails principal) {
         List<TripDay> days = tripService.listDays(planId, mid(principal));
         return ResponseEntity.ok(days.stream()
-                .map(d -> new DayResponse(d.getId(), d.getTripDate()))
+                .map(d -> new DayResponse(d.getId(), d.getTripDate(), d.getVersion()))
                 .toList());
     }
 
@@ -134,6 +132,6 @@ public class TripPlanController {
         TripDay day = tripService.addDay(planId, request.tripDate(), mid(principal));
         return ResponseEntity
                 .created(URI.create("/api/trips/days/" + day.getId()))
-                .body(new DayResponse(day.getId(), day.getTripDate()));
+                .body(new DayResponse(day.getId(), day.getTripDate(), day.getVersion()));
     }
 }
@@ -0,0 +1,10 @@
+package com.taebin.travelsay.domain.member;
+
+/** 요청 인증에 필요한 최소 컬럼만 담은 projection */
+public record MemberAuthRow(
+        String memberId,
+        MemberRole role,
+        MemberStatus status,
+        int tokenVersion
+) {
+}
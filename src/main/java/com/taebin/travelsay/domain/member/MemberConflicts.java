@@ -0,0 +1,24 @@
+package com.taebin.travelsay.domain.member;
+
+/**
+ * loginId / email / phoneNumber 각각 이미 쓰고 있는 회원 수 (unique 이므로 0 또는 1).
+ * 자기 자신을 제외하고 조회했으면 다른 회원 기준
+ */
+public record MemberConflicts(
+        long loginIds,
+        long emails,
+        long phoneNumbers
+) {
+
+    public boolean loginIdTaken() {
+        return loginIds > 0;
+    }
+
+    public boolean emailTaken() {
+        return emails > 0;
+    }
+
+    public boolean phoneNumberTaken() {
+        return phoneNumbers > 0;
+    }
+}
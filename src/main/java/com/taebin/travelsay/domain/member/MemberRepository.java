@@ -10,14 +10,27 @@ import java.util.Optional;
 public interface MemberRepository extends JpaRepository<Member, String> {
     Optional<Member> findByLoginId(String loginId);
 
-    boolean existsByLoginId(String loginId);
-    boolean existsByEmail(String email);
-    boolean existsByPhoneNumber(String phoneNumber);
-    boolean existsByEmailAndMemberIdNot(String email, String memberId);
-    boolean existsByPhoneNumberAndMemberIdNot(String phoneNumber, String memberId);
+    // 세 컬럼 중복 여부를 한 번에. null 인 값은 검사하지 않고, excludeMemberId(본인)는 제외
+    @Query("""
+    select new com.taebin.travelsay.domain.member.MemberConflicts(
+           coalesce(sum(case when m.loginId = :loginId then 1 else 0 end), 0),
+           coalesce(sum(case when m.email = :email then 1 else 0 end), 0),
+           coalesce(sum(case when m.phoneNumber = :phoneNumber then 1 else 0 end), 0))
+      from Member m
+     where (m.loginId = :loginId or m.email = :email or m.phoneNumber = :phoneNumber)
+       and (:excludeMemberId is null or m.memberId <> :excludeMemberId)
+""")
+    MemberConflicts findConflicts(@Param("loginId") String loginId,
+                                  @Param("email") String email,
+                                  @Param("phoneNumber") String phoneNumber,
+                                  @Param("excludeMemberId") String excludeMemberId);
 
-    @Query("select m.tokenVersion from Member m where m.loginId = :loginId")
-    Integer findTokenVersionByLoginId(@Param("loginId") String loginId);
+    @Query("""
+    select new com.taebin.travelsay.domain.member.MemberAuthRow(m.memberId, m.role, m.status, m.tokenVersion)
+      from Member m
+     where m.memberId = :memberId
+""")
+    Optional<MemberAuthRow> findAuthRowByMemberId(@Param("memberId") String memberId);
 
     @Modifying
     @Query("""
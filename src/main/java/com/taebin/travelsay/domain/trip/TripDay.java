@@ -31,6 +31,19 @@ public class TripDay extends BaseTimeEntity {
     @Column(name = "trip_date", nullable = false)
     private LocalDate tripDate;
 
+    // 아이템 수 / amount 합계. TripDayRepository 의 벌크 UPDATE 로만 증감한다
+    // (updatable = false: 엔티티 flush 가 낡은 값으로 덮어쓰지 않도록)
+    @Column(name = "item_count", nullable = false, updatable = false)
+    private int itemCount = 0;
+
+    @Column(name = "total_amount", nullable = false, updatable = false)
+    private long totalAmount = 0;
+
+    // 아이템 구성(추가/삭제/순서/시간 이동)이 바뀔 때마다 TripDayRepository.bumpVersion 으로 증가
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public static TripDay create(TripPlan plan, LocalDate date) {
         if (plan == null) throw new IllegalArgumentException("tripPlan is null");
         if (date == null) throw new IllegalArgumentException("tripDate is null");
@@ -1,19 +1,100 @@
 package com.taebin.travelsay.domain.trip;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TripDayRepository extends JpaRepository<TripDay, Long> {
 
     boolean existsByTripPlanIdAndTripDate(Long tripPlanId, LocalDate tripDate);
     List<TripDay> findByTripPlanIdOrderByTripDateAsc(Long tripPlanId);
 
+    /** 소유자 확인 + Plan 까지 한 번에 (삭제된 플랜이나 남의 Day 면 비어있음) */
+    @Query("""
+        select d from TripDay d
+          join fetch d.tripPlan p
+         where d.id = :dayId
+           and p.member.memberId = :memberId
+           and p.deletedAt is null
+    """)
+    Optional<TripDay> findOwnedById(@Param("dayId") Long dayId, @Param("memberId") String memberId);
+
+    /** findOwnedById 와 같은 조건을 행을 읽지 않고 확인만 (조회 API 용) */
+    @Query("""
+        select count(d) > 0 from TripDay d
+          join d.tripPlan p
+         where d.id = :dayId
+           and p.member.memberId = :memberId
+           and p.deletedAt is null
+    """)
+    boolean isOwned(@Param("dayId") Long dayId, @Param("memberId") String memberId);
+
     @Query("select d.id from TripDay d where d.tripPlan.id = :planId")
     List<Long> findIdsByPlan(@Param("planId") Long planId);
 
-    void deleteByTripPlanId(Long planId);
+    @Query("select d.id from TripDay d where d.tripPlan.id = :planId")
+    List<Long> findIdsByPlan(@Param("planId") Long planId, Pageable pageable);
+
+    @Query("select min(d.tripDate) from TripDay d where d.tripPlan.id = :planId")
+    LocalDate findMinTripDate(@Param("planId") Long planId);
+
+    /**
+     * 읽은 version 그대로일 때만 +1 (0 이면 그 사이 다른 요청이 먼저 바꾼 것).
+     * 아이템 수 / 금액 합계 증감도 같은 UPDATE 로 반영
+     */
+    @Modifying
+    @Query("""
+        update TripDay d
+           set d.version = d.version + 1,
+               d.itemCount = d.itemCount + :countDelta,
+               d.totalAmount = d.totalAmount + :amountDelta
+         where d.id = :dayId
+           and d.version = :version
+    """)
+    int bumpVersion(@Param("dayId") Long dayId,
+                    @Param("version") Long version,
+                    @Param("countDelta") int countDelta,
+                    @Param("amountDelta") long amountDelta);
+
+    @Modifying
+    @Query("update TripDay d set d.totalAmount = d.totalAmount + :amountDelta where d.id = :dayId")
+    int addAmount(@Param("dayId") Long dayId, @Param("amountDelta") long amountDelta);
+
+    @Modifying
+    @Query("update TripDay d set d.version = d.version + 1 where d.tripPlan.id = :planId")
+    int bumpVersionsByPlan(@Param("planId") Long planId);
+
+    // ===== 합계 재계산 (TripTotalsReconciler) =====
+
+    /** 재계산 구간 경계용 (id 순 keyset) */
+    @Query("select d.id from TripDay d where d.id > :afterId order by d.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+        select d.id from TripDay d
+         where d.id between :fromId and :toId
+           and (d.itemCount <> (select count(i) from TripItem i where i.tripDay = d)
+             or d.totalAmount <> (select coalesce(sum(i.amount), 0) from TripItem i where i.tripDay = d))
+    """)
+    List<Long> findIdsWithTotalsDrift(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query("""
+        update TripDay d
+           set d.itemCount = (select count(i) from TripItem i where i.tripDay.id = d.id),
+               d.totalAmount = (select coalesce(sum(i.amount), 0) from TripItem i where i.tripDay.id = d.id)
+         where d.id in :dayIds
+    """)
+    int recomputeTotals(@Param("dayIds") Collection<Long> dayIds);
+
+    @Modifying
+    @Query("delete from TripDay d where d.tripPlan.id = :planId")
+    int deleteByTripPlanId(@Param("planId") Long planId);
 }
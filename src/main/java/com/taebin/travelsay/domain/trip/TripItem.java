@@ -46,6 +46,14 @@ public class TripItem extends BaseTimeEntity {
     @Column(name = "order_no", nullable = false)
     private Integer orderNo;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // 응답용 순번 (1부터 연속). 추가 / 조회 시 이미 알게 된 경우만 채운다. 저장하지 않음
+    @Transient
+    private Integer position;
+
     public static TripItem create(TripDay tripDay, String title, LocalTime startTime,
                                   Integer amount, String merchant, String memo, Integer orderNo) {
         if (tripDay == null) throw new IllegalArgumentException("tripDay is null");
@@ -87,6 +95,10 @@ public class TripItem extends BaseTimeEntity {
         this.tripDay = targetDay;
     }
 
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
     /** Day 이동과 새 순서 지정까지 한 번에 */
     public void moveTo(TripDay targetDay, int newOrderNo) {
         moveToDay(targetDay);
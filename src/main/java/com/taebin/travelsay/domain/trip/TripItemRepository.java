@@ -1,26 +1,116 @@
 package com.taebin.travelsay.domain.trip;
 
+import com.taebin.travelsay.dto.trip.item.response.ItemTimeRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface TripItemRepository extends JpaRepository<TripItem, Long> {
+public interface TripItemRepository extends JpaRepository<TripItem, Long>, TripItemRepositoryCustom {
 
     List<TripItem> findByTripDayIdOrderByOrderNoAsc(Long dayId);
 
-    int countByTripDayId(Long dayId);
+    List<TripItem> findByTripDayIdInOrderByOrderNoAsc(Collection<Long> dayIds);
+
+    /** 소유자 확인 + Day / Plan 까지 한 번에 (삭제된 플랜이나 남의 아이템이면 비어있음) */
+    @Query("""
+        select i from TripItem i
+          join fetch i.tripDay d
+          join fetch d.tripPlan p
+         where i.id = :itemId
+           and p.member.memberId = :memberId
+           and p.deletedAt is null
+    """)
+    Optional<TripItem> findOwnedById(@Param("itemId") Long itemId, @Param("memberId") String memberId);
+
+    /** findOwnedById 와 같은 조회에 순번까지 (정렬 키 앞의 행 수 + 1, 같은 문장의 서브쿼리) */
+    @Query("""
+        select i, (select count(x) from TripItem x where x.tripDay = d and x.orderNo < i.orderNo) + 1
+          from TripItem i
+          join fetch i.tripDay d
+          join fetch d.tripPlan p
+         where i.id = :itemId
+           and p.member.memberId = :memberId
+           and p.deletedAt is null
+    """)
+    List<Object[]> findOwnedWithPositionRows(@Param("itemId") Long itemId, @Param("memberId") String memberId);
+
+    default Optional<TripItem> findOwnedWithPositionById(Long itemId, String memberId) {
+        return findOwnedWithPositionRows(itemId, memberId).stream().findFirst().map(row -> {
+            TripItem item = (TripItem) row[0];
+            item.setPosition(((Number) row[1]).intValue());
+            return item;
+        });
+    }
+
+    @Query("select i.tripDay.id from TripItem i where i.id = :itemId")
+    Optional<Long> findDayIdById(@Param("itemId") Long itemId);
+
+    @Query("select i.id from TripItem i where i.tripDay.id = :dayId")
+    List<Long> findIdsByDay(@Param("dayId") Long dayId);
+
+    @Query("select i.id from TripItem i where i.tripDay.tripPlan.id = :planId")
+    List<Long> findIdsByPlan(@Param("planId") Long planId, Pageable pageable);
+
+    int countByTripDayIdAndOrderNoLessThan(Long dayId, int orderNo);
+
+    @Query(value = """
+    SELECT order_no
+      FROM trip_item
+     WHERE trip_day_id = :dayId
+       AND trip_item_id <> :excludeId
+     ORDER BY order_no
+     LIMIT :limit OFFSET :offset
+""", nativeQuery = true)
+    List<Integer> findOrderNoWindow(@Param("dayId") Long dayId,
+                                    @Param("excludeId") long excludeId,
+                                    @Param("offset") int offset,
+                                    @Param("limit") int limit);
+
+    // ===== 시간 이동 (start_time 이 null 인 아이템은 대상 아님) =====
+
+    @Modifying
+    @Query("""
+        update versioned TripItem i
+           set i.startTime = i.startTime + (:seconds) second,
+               i.updatedAt = local datetime
+         where i.tripDay.id in :dayIds
+           and i.startTime between :lo and :hi
+    """)
+    int shiftStartTimes(@Param("dayIds") Collection<Long> dayIds,
+                        @Param("seconds") int seconds,
+                        @Param("lo") LocalTime lo,
+                        @Param("hi") LocalTime hi);
+
+    @Query("""
+        select new com.taebin.travelsay.dto.trip.item.response.ItemTimeRow(
+            d.id, i.id, i.title, i.startTime, i.amount, i.merchant, i.memo, i.version
+        )
+        from TripItem i join i.tripDay d
+        where d.id in :dayIds
+        order by d.tripDate, i.orderNo
+    """)
+    List<ItemTimeRow> findTimeRows(@Param("dayIds") Collection<Long> dayIds);
 
     List<TripItem> findByTripDayIdAndOrderNoBetweenOrderByOrderNoAsc(Long dayId, int start, int end);
 
-    void deleteByTripDayId(Long dayId);
-    void deleteByTripDayIdIn(Collection<Long> dayIds);
+    // 삭제는 모두 벌크 DELETE 1문장 (파생 delete 는 엔티티를 하나씩 로딩해서 지움)
+    @Modifying
+    @Query("delete from TripItem t where t.tripDay.id = :dayId")
+    int deleteByTripDayId(@Param("dayId") Long dayId);
+
+    @Modifying
+    @Query("delete from TripItem t where t.tripDay.id in :dayIds")
+    int deleteByTripDayIdIn(@Param("dayIds") Collection<Long> dayIds);
 
     @Modifying
-    @Query("delete from TripItem t where t.tripDay.tripPlan.id = :planId")
+    @Query("delete from TripItem t where t.tripDay.id in (select d.id from TripDay d where d.tripPlan.id = :planId)")
     int deleteByTripPlanId(@Param("planId") Long planId);
 
     @Modifying
@@ -35,10 +125,12 @@ public interface TripItemRepository extends JpaRepository<TripItem, Long> {
                  @Param("end") int end,
                  @Param("offset") int offset);
 
+    // 밀기의 마지막 단계에서만 version +1 (행마다 한 번). 순서가 바뀐 아이템은 모드와 무관하게 version 이 오른다
     @Modifying
     @Query(value = """
     UPDATE trip_item
-       SET order_no = order_no - :down
+       SET order_no = order_no - :down,
+           version = version + 1
      WHERE trip_day_id = :dayId
        AND order_no BETWEEN :startPlus AND :endPlus
 """, nativeQuery = true)
@@ -0,0 +1,19 @@
+package com.taebin.travelsay.domain.trip;
+
+import java.util.List;
+
+public interface TripItemRepositoryCustom {
+
+    /**
+     * Day 의 아이템 순서를 orderedIds 순서대로 step, 2*step, ... 으로 한 번에 기록.
+     * 유니크(uk_item_order) 회피를 위해 음수로 피신 → CASE UPDATE 1회, 총 2 statement.
+     * 두 번째 UPDATE 에서 각 행의 version 도 +1 (엔티티로 순서를 바꿀 때와 같게)
+     */
+    int applyOrder(Long dayId, List<Long> orderedIds, int step);
+
+    /**
+     * 아직 저장되지 않은 아이템들을 multi-row INSERT 1회로 저장.
+     * IDENTITY 전략이라 Hibernate 배치 insert 가 안 되므로 직접 묶는다. 생성된 id 는 채워지지 않음
+     */
+    int insertAll(List<TripItem> items);
+}
@@ -0,0 +1,74 @@
+package com.taebin.travelsay.domain.trip;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+class TripItemRepositoryImpl implements TripItemRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public int applyOrder(Long dayId, List<Long> orderedIds, int step) {
+        if (orderedIds.isEmpty()) return 0;
+
+        em.flush();
+
+        em.createNativeQuery("UPDATE trip_item SET order_no = -order_no WHERE trip_day_id = ?1")
+                .setParameter(1, dayId)
+                .executeUpdate();
+
+        StringBuilder sql = new StringBuilder("UPDATE trip_item SET order_no = CASE trip_item_id");
+        for (int i = 0; i < orderedIds.size(); i++) {
+            sql.append(" WHEN ?").append(i + 2).append(" THEN ").append((i + 1) * step);
+        }
+        sql.append(" END, version = version + 1 WHERE trip_day_id = ?1");
+
+        Query q = em.createNativeQuery(sql.toString()).setParameter(1, dayId);
+        for (int i = 0; i < orderedIds.size(); i++) {
+            q.setParameter(i + 2, orderedIds.get(i));
+        }
+        int updated = q.executeUpdate();
+
+        // 벌크 UPDATE 라 영속성 컨텍스트의 order_no 는 낡은 값
+        em.clear();
+        return updated;
+    }
+
+    @Override
+    public int insertAll(List<TripItem> items) {
+        if (items.isEmpty()) return 0;
+
+        em.flush();
+
+        StringBuilder sql = new StringBuilder("INSERT INTO trip_item"
+                + " (trip_day_id, start_time, title, amount, merchant, memo, order_no, version, created_at, updated_at) VALUES");
+        for (int i = 0; i < items.size(); i++) {
+            int p = i * 7 + 2;
+            sql.append(i == 0 ? " " : ", ").append('(');
+            for (int c = 0; c < 7; c++) {
+                sql.append('?').append(p + c).append(", ");
+            }
+            sql.append("0, ?1, ?1)");
+        }
+
+        // 벌크 insert 는 Auditing 리스너를 타지 않으므로 시각을 직접 넣는다
+        Query q = em.createNativeQuery(sql.toString()).setParameter(1, LocalDateTime.now());
+        for (int i = 0; i < items.size(); i++) {
+            TripItem it = items.get(i);
+            int p = i * 7 + 2;
+            q.setParameter(p, it.getTripDay().getId());
+            q.setParameter(p + 1, it.getStartTime());
+            q.setParameter(p + 2, it.getTitle());
+            q.setParameter(p + 3, it.getAmount());
+            q.setParameter(p + 4, it.getMerchant());
+            q.setParameter(p + 5, it.getMemo());
+            q.setParameter(p + 6, it.getOrderNo());
+        }
+        return q.executeUpdate();
+    }
+}
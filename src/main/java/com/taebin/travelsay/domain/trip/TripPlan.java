@@ -6,12 +6,17 @@ import com.taebin.travelsay.domain.member.Member;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 @Entity
 @Table(
         name = "trip_plan",
         indexes = {
                 @Index(name = "ix_plan_member_completed_updated", columnList = "member_id, is_completed, updated_at"),
-                @Index(name = "ix_plan_public_updated", columnList = "is_public, updated_at")
+                @Index(name = "ix_plan_public_updated", columnList = "is_public, updated_at"),
+                @Index(name = "ix_plan_member_start", columnList = "member_id, start_date, trip_plan_id"),
+                @Index(name = "ix_plan_deleted", columnList = "deleted_at")
         }
 )
 @Getter
@@ -37,6 +42,25 @@ public class TripPlan extends BaseTimeEntity {
     @Column(name = "is_completed", nullable = false)
     private boolean isCompleted = false;
 
+    // 가장 이른 Day 날짜 (Day 추가/삭제 시 갱신, Day 가 없으면 null)
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    // 전체 Day 의 아이템 수 / amount 합계. TripPlanRepository.addTotals 로만 증감
+    @Column(name = "item_count", nullable = false, updatable = false)
+    private int itemCount = 0;
+
+    @Column(name = "total_amount", nullable = false, updatable = false)
+    private long totalAmount = 0;
+
+    // soft-delete 시각 (null 이 아니면 목록/소유 확인에서 제외되고 purger 가 정리)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Builder
     private TripPlan(Member member, String title, boolean isPublic, boolean isCompleted) {
         this.member = member;
@@ -72,4 +96,23 @@ public class TripPlan extends BaseTimeEntity {
         this.isCompleted = completed;
     }
 
+    /** Day 추가 시: 더 이른 날짜면 시작일 갱신 */
+    public void includeDay(LocalDate tripDate) {
+        if (this.startDate == null || tripDate.isBefore(this.startDate)) {
+            this.startDate = tripDate;
+        }
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public void markDeleted() {
+        if (this.deletedAt == null) this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
+
 }
@@ -1,27 +1,165 @@
 package com.taebin.travelsay.domain.trip;
 
 import com.taebin.travelsay.dto.trip.plan.response.MyPlanRow;
+import com.taebin.travelsay.dto.trip.plan.response.PublicPlanRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TripPlanRepository extends JpaRepository<TripPlan, Long> {
 
     @Query("""
         select new com.taebin.travelsay.dto.trip.plan.response.MyPlanRow(
             p.id,
-            min(d.tripDate),
+            p.startDate,
             p.title,
             p.isPublic,
-            p.isCompleted
+            p.isCompleted,
+            p.itemCount,
+            p.totalAmount
         )
         from TripPlan p
-        left join TripDay d on d.tripPlan = p
         where p.member.memberId = :memberId
-        group by p.id, p.title, p.isPublic
-        order by case when min(d.tripDate) is null then 1 else 0 end, min(d.tripDate) desc
+          and p.deletedAt is null
+        order by case when p.startDate is null then 1 else 0 end, p.startDate desc, p.id desc
     """)
     List<MyPlanRow> findMyPlansAll(@Param("memberId") String memberId);
+
+    @Query("""
+        select p from TripPlan p
+         where p.id = :planId
+           and p.member.memberId = :memberId
+           and p.deletedAt is null
+    """)
+    Optional<TripPlan> findOwnedById(@Param("planId") Long planId, @Param("memberId") String memberId);
+
+    // ===== keyset 페이지 (start_date desc, trip_plan_id desc / 시작일 없는 플랜은 맨 뒤) =====
+
+    @Query("""
+        select new com.taebin.travelsay.dto.trip.plan.response.MyPlanRow(
+            p.id, p.startDate, p.title, p.isPublic, p.isCompleted, p.itemCount, p.totalAmount
+        )
+        from TripPlan p
+        where p.member.memberId = :memberId
+          and p.deletedAt is null
+          and p.startDate is not null
+        order by p.startDate desc, p.id desc
+    """)
+    List<MyPlanRow> findMyDatedPlans(@Param("memberId") String memberId, Pageable pageable);
+
+    @Query("""
+        select new com.taebin.travelsay.dto.trip.plan.response.MyPlanRow(
+            p.id, p.startDate, p.title, p.isPublic, p.isCompleted, p.itemCount, p.totalAmount
+        )
+        from TripPlan p
+        where p.member.memberId = :memberId
+          and p.deletedAt is null
+          and (p.startDate < :startDate or (p.startDate = :startDate and p.id < :planId))
+        order by p.startDate desc, p.id desc
+    """)
+    List<MyPlanRow> findMyDatedPlansAfter(@Param("memberId") String memberId,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("planId") Long planId,
+                                          Pageable pageable);
+
+    @Query("""
+        select new com.taebin.travelsay.dto.trip.plan.response.MyPlanRow(
+            p.id, p.startDate, p.title, p.isPublic, p.isCompleted, p.itemCount, p.totalAmount
+        )
+        from TripPlan p
+        where p.member.memberId = :memberId
+          and p.deletedAt is null
+          and p.startDate is null
+          and p.id < :planId
+        order by p.id desc
+    """)
+    List<MyPlanRow> findMyUndatedPlansAfter(@Param("memberId") String memberId,
+                                            @Param("planId") Long planId,
+                                            Pageable pageable);
+
+    // ===== 공개 피드 (ix_plan_public_updated: updated_at desc, trip_plan_id desc) =====
+
+    @Query("""
+        select new com.taebin.travelsay.dto.trip.plan.response.PublicPlanRow(
+            p.id, p.title, p.startDate, p.isCompleted, p.updatedAt
+        )
+        from TripPlan p
+        where p.isPublic = true
+          and p.deletedAt is null
+        order by p.updatedAt desc, p.id desc
+    """)
+    List<PublicPlanRow> findPublicPlans(Pageable pageable);
+
+    @Query("""
+        select new com.taebin.travelsay.dto.trip.plan.response.PublicPlanRow(
+            p.id, p.title, p.startDate, p.isCompleted, p.updatedAt
+        )
+        from TripPlan p
+        where p.isPublic = true
+          and p.deletedAt is null
+          and (p.updatedAt < :updatedAt or (p.updatedAt = :updatedAt and p.id < :planId))
+        order by p.updatedAt desc, p.id desc
+    """)
+    List<PublicPlanRow> findPublicPlansAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                             @Param("planId") Long planId,
+                                             Pageable pageable);
+
+    /** 읽은 version 그대로일 때만 +1 (0 이면 그 사이 다른 요청이 먼저 바꾼 것) */
+    @Modifying
+    @Query("update TripPlan p set p.version = p.version + 1 where p.id = :planId and p.version = :version")
+    int bumpVersion(@Param("planId") Long planId, @Param("version") Long version);
+
+    @Modifying
+    @Query("""
+        update TripPlan p
+           set p.itemCount = p.itemCount + :countDelta,
+               p.totalAmount = p.totalAmount + :amountDelta
+         where p.id = :planId
+    """)
+    int addTotals(@Param("planId") Long planId,
+                  @Param("countDelta") int countDelta,
+                  @Param("amountDelta") long amountDelta);
+
+    /** 재계산 구간 경계용 (id 순 keyset, 삭제된 플랜 제외) */
+    @Query("select p.id from TripPlan p where p.id > :afterId and p.deletedAt is null order by p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+        select p.id from TripPlan p
+         where p.id between :fromId and :toId
+           and p.deletedAt is null
+           and (p.itemCount <> (select count(i) from TripItem i where i.tripDay.tripPlan = p)
+             or p.totalAmount <> (select coalesce(sum(i.amount), 0) from TripItem i where i.tripDay.tripPlan = p))
+    """)
+    List<Long> findIdsWithTotalsDrift(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query("""
+        update TripPlan p
+           set p.itemCount = (select count(i) from TripItem i where i.tripDay.tripPlan.id = p.id),
+               p.totalAmount = (select coalesce(sum(i.amount), 0) from TripItem i where i.tripDay.tripPlan.id = p.id)
+         where p.id in :planIds
+    """)
+    int recomputeTotals(@Param("planIds") Collection<Long> planIds);
+
+    @Query("select p.id from TripPlan p where p.deletedAt is not null order by p.deletedAt")
+    List<Long> findDeletedPlanIds(Pageable pageable);
+
+    /** start_date 컬럼 도입 전 데이터 보정 (Day 가 있는데 start_date 가 비어있는 플랜) */
+    @Modifying
+    @Query("""
+        update TripPlan p
+           set p.startDate = (select min(d.tripDate) from TripDay d where d.tripPlan = p)
+         where p.startDate is null
+           and exists (select 1 from TripDay d2 where d2.tripPlan = p)
+    """)
+    int backfillStartDates();
 }
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 public record DayResponse (
         Long id,
-        LocalDate tripDate
+        LocalDate tripDate,
+        Long version
 ){
 }
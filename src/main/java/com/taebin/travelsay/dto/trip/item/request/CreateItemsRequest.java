@@ -0,0 +1,19 @@
+package com.taebin.travelsay.dto.trip.item.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreateItemsRequest (
+        // 블록이 들어갈 시작 위치 (null 이면 맨 뒤). 개별 item 의 orderNo 는 쓰지 않음
+        @Min(1)
+        Integer orderNo,
+
+        @NotEmpty
+        @Size(max = 200)
+        List<@Valid CreateItemRequest> items
+){
+}
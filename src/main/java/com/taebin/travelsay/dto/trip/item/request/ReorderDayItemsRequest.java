@@ -0,0 +1,11 @@
+package com.taebin.travelsay.dto.trip.item.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record ReorderDayItemsRequest (
+        @NotNull
+        List<@NotNull Long> itemIds
+){
+}
@@ -3,6 +3,9 @@ package com.taebin.travelsay.dto.trip.item.request;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
 public record ShiftItemsTimeRequest(
         @NotBlank
         @Pattern(
@@ -11,4 +14,16 @@ public record ShiftItemsTimeRequest(
         )
         String offset
 ) {
+
+    // "HH:mm"  minutes 로 변환.
+    public int offsetMinutes() {
+        boolean negative = offset.startsWith("-");
+        String s = offset.replaceFirst("^[+-]", "");
+        if ("24:00".equals(s)) return negative ? -1440 : 1440;
+
+        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("H:mm");
+        LocalTime t = LocalTime.parse(s, fmt);
+        int minutes = t.getHour() * 60 + t.getMinute();
+        return negative ? -minutes : minutes;
+    }
 }
@@ -1,6 +1,9 @@
 package com.taebin.travelsay.dto.trip.item.response;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 public record ItemResponse (
         Long id,
@@ -9,6 +12,20 @@ public record ItemResponse (
         Integer amount,
         String merchant,
         String memo,
-        Integer orderNo
+        Integer orderNo,
+        Long version
 ){
+    /** Day 순, Day 안에서는 순서대로 정렬된 행이므로 순번 = Day 안의 index + 1 */
+    public static List<ItemResponse> fromTimeRows(List<ItemTimeRow> rows) {
+        List<ItemResponse> body = new ArrayList<>(rows.size());
+        Long dayId = null;
+        int orderNo = 0;
+        for (ItemTimeRow r : rows) {
+            orderNo = Objects.equals(dayId, r.dayId()) ? orderNo + 1 : 1;
+            dayId = r.dayId();
+            body.add(new ItemResponse(r.id(), r.title(), r.startTime(), r.amount(),
+                    r.merchant(), r.memo(), orderNo, r.version()));
+        }
+        return body;
+    }
 }
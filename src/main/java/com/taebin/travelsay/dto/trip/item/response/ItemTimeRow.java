@@ -0,0 +1,15 @@
+package com.taebin.travelsay.dto.trip.item.response;
+
+import java.time.LocalTime;
+
+public record ItemTimeRow(
+        Long dayId,
+        Long id,
+        String title,
+        LocalTime startTime,
+        Integer amount,
+        String merchant,
+        String memo,
+        Long version
+){
+}
@@ -7,6 +7,8 @@ public record MyPlanRow(
         LocalDate startDate,
         String title,
         Boolean isPublic,
-        Boolean isCompleted
+        Boolean isCompleted,
+        Integer itemCount,
+        Long totalAmount
 ){
 }
@@ -10,8 +10,12 @@ public record PlanDetailResponse(
         String title,
         Boolean isPublic,
         Boolean isCompleted,
+        Long version,
+        Integer itemCount,
+        Long totalAmount,
         List<DayRow> days
 ) {
-    public record DayRow(Long dayId, LocalDate tripDate, List<ItemRow> items) {}
-    public record ItemRow(Long id, LocalTime startTime, String title, Integer amount, String merchant, String memo) {}
+    public record DayRow(Long dayId, LocalDate tripDate, Long version, Integer itemCount, Long totalAmount,
+                         List<ItemRow> items) {}
+    public record ItemRow(Long id, LocalTime startTime, String title, Integer amount, String merchant, String memo, Long version) {}
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ public record PlanResponse (
         Long id,
         String title,
         boolean isPublic,
-        boolean isCompleted
+        boolean isCompleted,
+        Long version
 ){
 }
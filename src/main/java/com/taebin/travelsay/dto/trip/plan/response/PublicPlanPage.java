@@ -0,0 +1,9 @@
+package com.taebin.travelsay.dto.trip.plan.response;
+
+import java.util.List;
+
+public record PublicPlanPage(
+        List<PublicPlanRow> items,
+        String nextCursor
+){
+}
@@ -0,0 +1,13 @@
+package com.taebin.travelsay.dto.trip.plan.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record PublicPlanRow(
+        Long planId,
+        String title,
+        LocalDate startDate,
+        Boolean isCompleted,
+        LocalDateTime updatedAt
+){
+}
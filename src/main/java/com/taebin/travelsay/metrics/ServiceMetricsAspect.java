@@ -0,0 +1,79 @@
+package com.taebin.travelsay.metrics;
+
+import com.taebin.travelsay.security.PasswordHashingBusyException;
+import com.taebin.travelsay.service.TripService;
+import com.taebin.travelsay.service.VersionConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TripService / MemberService 의 public 메서드 실행 시간.
+ * 이름: trip.service, member.service / 태그: method, outcome (예외 메시지는 태그에 넣지 않음)
+ * Timer 는 (메서드, outcome) 마다 한 번만 만들어 캐시한다
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String TRIP_SERVICE = "trip.service";
+    public static final String MEMBER_SERVICE = "member.service";
+
+    enum Outcome { SUCCESS, CLIENT_ERROR, UNAUTHORIZED, FORBIDDEN, NOT_FOUND, CONFLICT, UNAVAILABLE, SERVER_ERROR }
+
+    private record Key(Method method, Outcome outcome) {}
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.taebin.travelsay.service.TripService.*(..))"
+            + " || execution(public * com.taebin.travelsay.service.MemberService.*(..))")
+    public Object time(ProceedingJoinPoint pjp) throws Throwable {
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.SUCCESS;
+        try {
+            return pjp.proceed();
+        } catch (Throwable t) {
+            outcome = outcomeOf(t);
+            throw t;
+        } finally {
+            Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+            timers.computeIfAbsent(new Key(method, outcome), this::newTimer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer newTimer(Key key) {
+        String name = key.method().getDeclaringClass() == TripService.class ? TRIP_SERVICE : MEMBER_SERVICE;
+        return Timer.builder(name)
+                .tag("method", key.method().getName())
+                .tag("outcome", key.outcome().name())
+                .register(meterRegistry);
+    }
+
+    // GlobalExceptionHandler 의 상태 코드 매핑과 같게 (409 / 404 / 403 / 401 / 400 / 503, 나머지는 500)
+    private static Outcome outcomeOf(Throwable t) {
+        if (t instanceof VersionConflictException || t instanceof ObjectOptimisticLockingFailureException) {
+            return Outcome.CONFLICT;
+        }
+        if (t instanceof EntityNotFoundException) return Outcome.NOT_FOUND;
+        if (t instanceof SecurityException) return Outcome.FORBIDDEN;
+        if (t instanceof IllegalStateException) return Outcome.UNAUTHORIZED;
+        if (t instanceof IllegalArgumentException) return Outcome.CLIENT_ERROR;
+        if (t instanceof PasswordHashingBusyException) return Outcome.UNAVAILABLE;
+        return Outcome.SERVER_ERROR;
+    }
+}
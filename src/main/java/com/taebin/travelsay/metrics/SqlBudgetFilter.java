@@ -0,0 +1,75 @@
+package com.taebin.travelsay.metrics;
+
+import com.taebin.travelsay.config.SqlBudgetProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 JDBC statement 수 / DB 시간을 세고, endpoint 별 한도(SqlBudgetProperties)를 넘으면 경고 로그.
+ * JWT 필터의 조회까지 포함되도록 보안 필터보다 앞에 둔다.
+ * prod 가 아니면 X-Sql-Count / X-Sql-Time-Ms 헤더도 붙인다 (헤더를 본문 뒤에 쓰려고 응답을 버퍼링)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Sql-Count";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private final SqlBudgetProperties properties;
+    private final boolean exposeHeaders;
+
+    public SqlBudgetFilter(SqlBudgetProperties properties, Environment environment) {
+        this.properties = properties;
+        this.exposeHeaders = properties.isExposeHeaders() && !environment.acceptsProfiles(Profiles.of("prod"));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = exposeHeaders ? new ContentCachingResponseWrapper(res) : null;
+        SqlStats stats = SqlStats.begin();
+        try {
+            chain.doFilter(req, buffered != null ? buffered : res);
+        } finally {
+            SqlStats.end();
+            req.setAttribute(SqlStats.ATTRIBUTE, stats);
+            checkBudget(req, stats);
+            if (buffered != null) {
+                buffered.setHeader(COUNT_HEADER, Integer.toString(stats.statements()));
+                buffered.setHeader(TIME_HEADER, String.format("%.2f", stats.millis()));
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void checkBudget(HttpServletRequest req, SqlStats stats) {
+        Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) return; // 컨트롤러에 매핑되지 않은 요청 (정적 리소스 / 404)
+
+        int budget = properties.budgetFor(req.getMethod(), pattern.toString());
+        if (stats.statements() > budget) {
+            log.warn("[SqlBudget] {} {} statements={} budget={} dbTimeMs={}",
+                    req.getMethod(), pattern, stats.statements(), budget, String.format("%.2f", stats.millis()));
+        }
+    }
+}
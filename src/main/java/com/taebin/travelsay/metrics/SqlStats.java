@@ -0,0 +1,50 @@
+package com.taebin.travelsay.metrics;
+
+/**
+ * 요청 하나 동안의 JDBC statement 수 / DB 시간. SqlBudgetFilter 가 요청 스레드에 걸고,
+ * SqlStatsListener(Hibernate 세션 이벤트)가 채운다. 다른 스레드에서 나간 쿼리는 세지 않음
+ */
+public final class SqlStats {
+
+    /** 필터가 끝난 뒤 결과를 담아두는 request attribute (테스트에서 읽음) */
+    public static final String ATTRIBUTE = SqlStats.class.getName();
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    static SqlStats begin() {
+        SqlStats stats = new SqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    void onStatement() {
+        statements++;
+    }
+
+    void onExecuted(long elapsedNanos) {
+        nanos += elapsedNanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+
+    public double millis() {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,41 @@
+package com.taebin.travelsay.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 가 세션마다 만드는 이벤트 리스너 (hibernate.session.events.auto).
+ * prepare 1회 = statement 1개, execute / batch 구간을 DB 시간으로 합산한다
+ */
+public class SqlStatsListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        SqlStats stats = SqlStats.current();
+        if (stats != null) stats.onStatement();
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStats stats = SqlStats.current();
+        if (stats != null) stats.onExecuted(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStats stats = SqlStats.current();
+        if (stats != null) stats.onExecuted(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,51 @@
+package com.taebin.travelsay.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 계측. 요청마다 도는 경로라 Timer / Counter 는 생성 시 한 번만 등록한다
+ * - auth.filter.phase{phase}: 단계별 소요 시간
+ * - auth.filter.requests{outcome}: 필터 결과
+ */
+@Component
+class AuthMetrics {
+
+    enum Phase { EXTRACT, VERIFY, VERSION_LOOKUP, PRINCIPAL }
+
+    enum Outcome { AUTHENTICATED, ANONYMOUS, INVALID_TOKEN, INVALID_CLAIMS, STALE_VERSION, ERROR }
+
+    private final Map<Phase, Timer> phases = new EnumMap<>(Phase.class);
+    private final Map<Outcome, Counter> outcomes = new EnumMap<>(Outcome.class);
+
+    AuthMetrics(MeterRegistry registry) {
+        for (Phase p : Phase.values()) {
+            phases.put(p, Timer.builder("auth.filter.phase")
+                    .tag("phase", p.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+        for (Outcome o : Outcome.values()) {
+            outcomes.put(o, Counter.builder("auth.filter.requests")
+                    .tag("outcome", o.name())
+                    .register(registry));
+        }
+    }
+
+    /** startNanos 부터 지금까지를 기록하고 지금 시각을 돌려준다 (다음 단계의 시작) */
+    long record(Phase phase, long startNanos) {
+        long now = System.nanoTime();
+        phases.get(phase).record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    void count(Outcome outcome) {
+        outcomes.get(outcome).increment();
+    }
+}
@@ -0,0 +1,101 @@
+package com.taebin.travelsay.security;
+
+import com.taebin.travelsay.config.PasswordHashingProperties;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 를 전용 스레드풀에서 실행하는 PasswordEncoder.
+ * - 로그인이 몰려도 동시에 해시하는 건 threads 개뿐 (Tomcat 스레드가 전부 CPU 에 묶이지 않음)
+ * - 대기열(queueCapacity)까지 차면 기다리지 않고 PasswordHashingBusyException → 503
+ * - 저장된 해시의 cost 가 설정과 다르면 upgradeEncoding = true (로그인 시 재해시)
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordHashingProperties properties) {
+        this(new BCryptPasswordEncoder(properties.getStrength()), properties.getStrength(),
+                properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors(),
+                properties.getQueueCapacity());
+    }
+
+    // 테스트에서 delegate 를 바꿔 끼우기 위해 package-private
+    BoundedPasswordEncoder(PasswordEncoder delegate, int strength, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        this.strength = strength;
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue, r -> {
+            Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost >= 0 && cost != strength;
+    }
+
+    /** 대기 중인 해시 요청 수 (메트릭용) */
+    public int queued() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingBusyException();
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // "$2a$10$..." → 10. BCrypt 형식이 아니면 -1
+    static int costOf(String encoded) {
+        if (encoded == null || encoded.length() < 7 || encoded.charAt(0) != '$' || encoded.charAt(6) != '$') return -1;
+        char tens = encoded.charAt(4);
+        char ones = encoded.charAt(5);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') return -1;
+        return (tens - '0') * 10 + (ones - '0');
+    }
+}
@@ -1,6 +1,6 @@
 package com.taebin.travelsay.security;
 
-import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.member.MemberAuthRow;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,7 +13,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Locale;
 
 @Slf4j
 @Component
@@ -24,8 +23,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHZ_LWR = "authorization";
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final MemberDetailsService memberDetailsService;
-    private final MemberRepository memberRepository;
+    private final TokenVersionCache tokenVersionCache;
+    private final AuthMetrics authMetrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
@@ -40,9 +39,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (log.isDebugEnabled()) log.debug("[JwtAuthFilter] path={}", req.getRequestURI());
 
         // Bearer 토큰 추출
+        long t = System.nanoTime();
         final String token = extractBearerToken(req, jwtTokenProvider.headerName());
+        t = authMetrics.record(AuthMetrics.Phase.EXTRACT, t);
         if (token == null) {
             if (log.isDebugEnabled()) log.debug("[JwtAuthFilter] no valid Bearer token");
+            authMetrics.count(AuthMetrics.Outcome.ANONYMOUS);
             chain.doFilter(req, res);
             return;
         }
@@ -52,38 +54,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            if (!jwtTokenProvider.validate(token)) {
+            // 서명 검증 + 클레임 추출을 한 번에
+            final VerifiedClaims claims = jwtTokenProvider.verify(token).orElse(null);
+            t = authMetrics.record(AuthMetrics.Phase.VERIFY, t);
+            if (claims == null) {
                 log.warn("[JwtAuthFilter] token validate = false");
+                authMetrics.count(AuthMetrics.Outcome.INVALID_TOKEN);
                 res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
 
-            final String username = jwtTokenProvider.getUsername(token);
-            final Integer verInToken = jwtTokenProvider.getVersion(token);
-            if (username == null || username.isBlank() || verInToken == null) {
-                log.warn("[JwtAuthFilter] username/ver invalid (username='{}', ver={})", username, verInToken);
+            final String username = claims.subject();
+            final String memberId = claims.memberId();
+            final Integer verInToken = claims.version();
+            if (username == null || username.isBlank() || memberId == null || verInToken == null) {
+                log.warn("[JwtAuthFilter] username/mid/ver invalid (username='{}', mid={}, ver={})", username, memberId, verInToken);
+                authMetrics.count(AuthMetrics.Outcome.INVALID_CLAIMS);
                 res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
 
-            // DB tokenVersion과 비교
-            final Integer currentVer = memberRepository.findTokenVersionByLoginId(username);
-            if (currentVer == null || !verInToken.equals(currentVer)) {
+            // 현재 tokenVersion과 비교 (캐시 → miss 시 projection 쿼리 1회)
+            final MemberAuthRow current = tokenVersionCache.lookup(memberId);
+            t = authMetrics.record(AuthMetrics.Phase.VERSION_LOOKUP, t);
+            if (current == null || current.tokenVersion() != verInToken) {
+                authMetrics.count(AuthMetrics.Outcome.STALE_VERSION);
                 res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
 
-            // 인증객체 구성 (details에는 tv만 담는다)
-            var ud = memberDetailsService.loadUserByUsername(username);
+            // 인증객체 구성: Member 재조회 없이 클레임 + projection 으로 (details에는 검증된 클레임)
+            var ud = MemberDetails.fromToken(claims, current);
             var auth = new UsernamePasswordAuthenticationToken(ud, null, ud.getAuthorities());
 
-            auth.setDetails(verInToken);
+            auth.setDetails(claims);
             req.setAttribute("jwtVersion", verInToken);
 
             SecurityContextHolder.getContext().setAuthentication(auth);
+            authMetrics.record(AuthMetrics.Phase.PRINCIPAL, t);
+            authMetrics.count(AuthMetrics.Outcome.AUTHENTICATED);
             if (log.isDebugEnabled()) log.debug("[JwtAuthFilter] SecurityContext set user={}, tv={}", username, verInToken);
         } catch (Exception e) {
             log.warn("[JwtAuthFilter] validate error: {}", e.getMessage(), e);
+            authMetrics.count(AuthMetrics.Outcome.ERROR);
             req.setAttribute("jwt_error", e.getMessage());
             res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
@@ -92,54 +105,68 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         chain.doFilter(req, res);
     }
 
-    private String extractBearerToken(HttpServletRequest req, String configuredHeaderName) {
+    // 벤치마크(BearerTokenBenchmark)에서 직접 호출하도록 package-private
+    static String extractBearerToken(HttpServletRequest req, String configuredHeaderName) {
         String header = req.getHeader(AUTHZ_STD);
         if (isBlank(header) && configuredHeaderName != null) header = req.getHeader(configuredHeaderName);
         if (isBlank(header)) header = req.getHeader(AUTHZ_LWR);
         if (isBlank(header)) return null;
+        return bearerToken(header);
+    }
 
-        final String h = header.trim();
-        final int spaceIdx = h.indexOf(' ');
-        if (spaceIdx <= 0) return null;
-
-        final String scheme = h.substring(0, spaceIdx).toLowerCase(Locale.ROOT);
-        if (!"bearer".equals(scheme)) return null;
-
-        String token = h.substring(spaceIdx + 1).trim();
-        if (isBlank(token)) return null;
+    private static final int MAX_TOKEN_LENGTH = 4096;
+
+    /**
+     * "Bearer header.payload.signature" 에서 토큰만. 정규식 / trim / toLowerCase 없이 한 번 훑는다
+     * (앞뒤 공백 허용, scheme 대소문자 무시, 세 구간 모두 base64url 한 글자 이상, 최대 4096자)
+     */
+    static String bearerToken(String header) {
+        int end = header.length();
+        while (end > 0 && header.charAt(end - 1) <= ' ') end--;
+        int i = 0;
+        while (i < end && header.charAt(i) <= ' ') i++;
+
+        if (!header.regionMatches(true, i, "bearer ", 0, 7)) return null;
+        i += 7;
+        while (i < end && header.charAt(i) <= ' ') i++;
+
+        // 길이 제한을 먼저 (긴 헤더를 끝까지 훑지 않음)
+        int start = i;
+        if (end - start > MAX_TOKEN_LENGTH) return null;
+
+        int dots = 0;
+        int segmentLength = 0;
+        for (; i < end; i++) {
+            char c = header.charAt(i);
+            if (c == '.') {
+                if (segmentLength == 0 || ++dots > 2) return null;
+                segmentLength = 0;
+            } else if (isBase64Url(c)) {
+                segmentLength++;
+            } else {
+                return null;
+            }
+        }
+        if (dots != 2 || segmentLength == 0) return null;
 
-        if (!token.matches("^[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+$")) return null;
-        if (token.length() > 4096) return null;
+        return header.substring(start, end);
+    }
 
-        return token;
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
     }
 
-    private boolean isBlank(String s) {
-        return s == null || s.trim().isEmpty();
+    private static boolean isBlank(String s) {
+        if (s == null) return true;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > ' ') return false;
+        }
+        return true;
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest req) {
-        final String p = req.getRequestURI();
-
         if ("OPTIONS".equalsIgnoreCase(req.getMethod())) return true;
-
-        // 정적/공개 리소스
-        if (p.startsWith("/css/") || p.startsWith("/js/") || p.startsWith("/img/")
-                || p.startsWith("/assets/") || p.startsWith("/fragments/")
-                || p.equals("/favicon.ico")) return true;
-
-        // 공개 페이지
-        if (p.equals("/") || p.equals("/index.html") || p.equals("/login.html")
-                || p.equals("/signup.html") || p.equals("/profile-edit.html")
-                || p.equals("/withdraw.html") || p.equals("/my-plans.html")
-                || p.equals("/plan-edit.html") || p.equals("/plan-detail.html")) return true;
-
-        // 공개 API
-        if (p.equals("/api/member/signup") || p.equals("/api/member/login")) return true;
-
-        if (p.startsWith("/swagger-ui/") || p.startsWith("/v3/api-docs")) return true;
-
-        return false;
+        return PublicPaths.matches(req.getRequestURI());
     }
 }
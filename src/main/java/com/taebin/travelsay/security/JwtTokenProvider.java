@@ -9,6 +9,7 @@ import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
@@ -16,9 +17,11 @@ public class JwtTokenProvider {
     private final JwtProperties jwtProperties;
     private final SecretKey secretKey;
     private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JwtTokenProvider(JwtProperties jwtProperties) {
+    public JwtTokenProvider(JwtProperties jwtProperties, VerifiedTokenCache verifiedTokenCache) {
         this.jwtProperties = jwtProperties;
+        this.verifiedTokenCache = verifiedTokenCache;
 
         byte[] decoded = Base64.getDecoder().decode(jwtProperties.getSecret());
         this.secretKey = Keys.hmacShaKeyFor(decoded);
@@ -45,26 +48,35 @@ public class JwtTokenProvider {
     }
 
     public boolean validate(String token) {
+        return verify(token).isPresent();
+    }
+
+    /** 서명/만료 검증과 클레임 추출을 한 번의 파싱으로 처리. 유효하지 않으면 empty (검증 결과는 exp까지 캐시) */
+    public Optional<VerifiedClaims> verify(String token) {
+        VerifiedClaims cached = verifiedTokenCache.get(token);
+        if (cached != null) return Optional.of(cached);
+
         try {
-            parser.parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            VerifiedClaims verified = toVerifiedClaims(claims);
+            verifiedTokenCache.put(token, verified);
+            return Optional.of(verified);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
-    public String getMemberId(String token) {
-        Claims claims = parser.parseClaimsJws(token).getBody();
-        return claims.get("mid", String.class); // 없으면 null
-    }
-
-    public String getUsername(String token) {
-        return parser.parseClaimsJws(token).getBody().getSubject();
+    private static VerifiedClaims toVerifiedClaims(Claims claims) {
+        Date exp = claims.getExpiration();
+        return new VerifiedClaims(
+                claims.getSubject(),
+                claims.get("mid", String.class),
+                versionOf(claims),
+                exp == null ? null : exp.toInstant()
+        );
     }
 
-    /** ver(claim) → tokenVersion (Number 전반 안전 처리) */
-    public Integer getVersion(String token) {
-        Claims claims = parser.parseClaimsJws(token).getBody();
+    private static Integer versionOf(Claims claims) {
         Object v = claims.get("ver");
         if (v instanceof Number) return ((Number) v).intValue();
         return null;
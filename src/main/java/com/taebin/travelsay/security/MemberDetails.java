@@ -1,6 +1,8 @@
 package com.taebin.travelsay.security;
 
 import com.taebin.travelsay.domain.member.Member;
+import com.taebin.travelsay.domain.member.MemberAuthRow;
+import com.taebin.travelsay.domain.member.MemberRole;
 import com.taebin.travelsay.domain.member.MemberStatus;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -10,13 +12,27 @@ import java.util.Collection;
 import java.util.List;
 
 public class MemberDetails implements UserDetails {
-    private final Member member;
+    private final String memberId;
+    private final String loginId;
+    private final String password;
+    private final MemberRole role;
+    private final MemberStatus status;
+
     public MemberDetails(Member member) {
-        this.member = member;
+        this(member.getMemberId(), member.getLoginId(), member.getPassword(), member.getRole(), member.getStatus());
+    }
+
+    private MemberDetails(String memberId, String loginId, String password, MemberRole role, MemberStatus status) {
+        this.memberId = memberId;
+        this.loginId = loginId;
+        this.password = password;
+        this.role = role;
+        this.status = status;
     }
 
-    public Member getMember() {
-        return member;
+    /** JWT 클레임 + 인증 projection 으로 구성 (Member 엔티티를 다시 읽지 않음, 비밀번호 없음) */
+    public static MemberDetails fromToken(VerifiedClaims claims, MemberAuthRow row) {
+        return new MemberDetails(row.memberId(), claims.subject(), null, row.role(), row.status());
     }
 
     @Override
@@ -36,25 +52,25 @@ public class MemberDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return member.getStatus() == MemberStatus.ACTIVE;
+        return status == MemberStatus.ACTIVE;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + member.getRole()));
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role));
     }
 
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return member.getLoginId();
+        return loginId;
     }
 
     public String getMemberId() {
-        return member.getMemberId();
+        return memberId;
     }
 }
@@ -0,0 +1,9 @@
+package com.taebin.travelsay.security;
+
+/** 해시 스레드와 대기열이 모두 찼음 → 503 (잠시 후 재시도) */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("요청이 많아 잠시 후 다시 시도해 주세요.");
+    }
+}
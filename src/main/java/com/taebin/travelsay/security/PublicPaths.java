@@ -0,0 +1,61 @@
+package com.taebin.travelsay.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JWT 필터를 건너뛰는 공개 경로 표. 요청마다 startsWith / equals 를 줄줄이 돌지 않도록
+ * 정확히 일치하는 경로는 HashSet, prefix 는 '/' 다음 첫 글자로 나눈 버킷에 미리 담아둔다
+ */
+final class PublicPaths {
+
+    private static final Set<String> EXACT = Set.of(
+            // 공개 페이지
+            "/", "/index.html", "/login.html", "/signup.html", "/profile-edit.html",
+            "/withdraw.html", "/my-plans.html", "/plan-edit.html", "/plan-detail.html",
+            "/favicon.ico",
+            // 공개 API
+            "/api/member/signup", "/api/member/login",
+            "/actuator/health"
+    );
+
+    private static final String[] PREFIXES = {
+            // 정적 리소스
+            "/css/", "/js/", "/img/", "/assets/", "/fragments/",
+            "/swagger-ui/", "/v3/api-docs"
+    };
+
+    // '/' 다음 글자(ASCII) → 그 글자로 시작하는 prefix 들
+    private static final String[][] BUCKETS = buckets();
+
+    private PublicPaths() {}
+
+    static boolean matches(String path) {
+        if (path == null || path.isEmpty()) return false;
+        if (path.length() > 1) {
+            char c = path.charAt(1);
+            if (c < BUCKETS.length && BUCKETS[c] != null) {
+                for (String prefix : BUCKETS[c]) {
+                    if (path.startsWith(prefix)) return true;
+                }
+            }
+        }
+        return EXACT.contains(path);
+    }
+
+    private static String[][] buckets() {
+        List<List<String>> lists = new ArrayList<>(128);
+        for (int i = 0; i < 128; i++) lists.add(null);
+        for (String prefix : PREFIXES) {
+            char c = prefix.charAt(1);
+            if (lists.get(c) == null) lists.set(c, new ArrayList<>());
+            lists.get(c).add(prefix);
+        }
+        String[][] out = new String[128][];
+        for (int i = 0; i < 128; i++) {
+            if (lists.get(i) != null) out[i] = lists.get(i).toArray(String[]::new);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,95 @@
+package com.taebin.travelsay.security;
+
+import com.taebin.travelsay.config.TokenVersionCacheProperties;
+import com.taebin.travelsay.domain.member.MemberAuthRow;
+import com.taebin.travelsay.domain.member.MemberRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * memberId → 인증 정보(tokenVersion, role, status) 캐시.
+ * - 조회 miss 또는 maxStaleness 초과 시 projection 쿼리 1회로 다시 읽음
+ * - MemberService가 버전을 올리면 즉시 비우고, 트랜잭션이 끝나면(커밋 / 롤백 모두) 한 번 더 비움
+ * - 비우기만 하고 새 값을 미리 채우지는 않는다. 다음 lookup 이 커밋된 값을 다시 읽어 채움
+ */
+@Component
+public class TokenVersionCache {
+
+    private final MemberRepository memberRepository;
+    private final boolean enabled;
+    private final int maxSize;
+    private final long maxStalenessNanos;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // 무효화가 일어나면 증가. 조회 도중 무효화가 끼어들면 그 조회 결과는 캐시에 넣지 않는다
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TokenVersionCache(MemberRepository memberRepository, TokenVersionCacheProperties properties) {
+        this.memberRepository = memberRepository;
+        this.enabled = properties.isEnabled();
+        this.maxSize = properties.getMaxSize();
+        this.maxStalenessNanos = properties.getMaxStaleness().toNanos();
+    }
+
+    /** 현재 인증 정보. 회원이 없으면 null */
+    public MemberAuthRow lookup(String memberId) {
+        if (!enabled) return memberRepository.findAuthRowByMemberId(memberId).orElse(null);
+
+        long now = System.nanoTime();
+        Entry e = entries.get(memberId);
+        if (e != null && now - e.loadedAt() < maxStalenessNanos) {
+            return e.row();
+        }
+
+        long gen = invalidations.get();
+        MemberAuthRow row = memberRepository.findAuthRowByMemberId(memberId).orElse(null);
+        if (row == null) {
+            entries.remove(memberId);
+        } else if (gen == invalidations.get()) {
+            store(memberId, row, now);
+            if (gen != invalidations.get()) entries.remove(memberId);
+        }
+        return row;
+    }
+
+    /** 버전/상태 변경 직후 호출. 트랜잭션 안이면 afterCompletion 에서 한 번 더 비운다 (다시 채우지는 않음) */
+    public void invalidate(String memberId) {
+        if (!enabled || memberId == null) return;
+
+        evict(memberId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // 커밋 전에 다른 요청이 옛 값을 다시 채웠을 수 있으니 한 번 더 정리
+                evict(memberId);
+            }
+        });
+    }
+
+    public void evictAll() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    private void evict(String memberId) {
+        invalidations.incrementAndGet();
+        entries.remove(memberId);
+    }
+
+    private void store(String memberId, MemberAuthRow row, long now) {
+        if (entries.size() >= maxSize && !entries.containsKey(memberId)) {
+            entries.values().removeIf(e -> now - e.loadedAt() >= maxStalenessNanos);
+            if (entries.size() >= maxSize) return;
+        }
+        entries.put(memberId, new Entry(row, now));
+    }
+
+    private record Entry(MemberAuthRow row, long loadedAt) {}
+}
@@ -0,0 +1,12 @@
+package com.taebin.travelsay.security;
+
+import java.time.Instant;
+
+/** 서명 검증을 마친 토큰의 클레임 (한 번만 파싱해서 재사용) */
+public record VerifiedClaims(
+        String subject,
+        String memberId,
+        Integer version,
+        Instant expiresAt
+) {
+}
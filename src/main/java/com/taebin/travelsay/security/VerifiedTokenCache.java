@@ -0,0 +1,120 @@
+package com.taebin.travelsay.security;
+
+import com.taebin.travelsay.config.JwtCacheProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명 검증을 통과한 토큰의 클레임 캐시.
+ * - 키: 토큰 원문 대신 SHA-256 digest
+ * - 각 엔트리는 토큰 자체의 exp 시각에 만료
+ * - maxSize 초과 시 만료가 가장 가까운 엔트리부터 밀어냄
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final int maxSize;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> byExpiry = new ConcurrentSkipListSet<>(
+            Comparator.comparing(Entry::expiresAt).thenComparingLong(Entry::seq));
+    private final AtomicLong seq = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public VerifiedTokenCache(JwtCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.maxSize = properties.getMaxSize();
+    }
+
+    /** 캐시에 있고 아직 만료 전이면 클레임, 아니면 null */
+    public VerifiedClaims get(String token) {
+        if (!enabled) return null;
+
+        String key = digest(token);
+        Entry e = entries.get(key);
+        if (e == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (!e.expiresAt().isAfter(Instant.now())) {
+            remove(e);
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return e.claims();
+    }
+
+    /** 검증이 끝난 토큰만 넣는다. exp 없는 토큰은 캐시하지 않음 */
+    public void put(String token, VerifiedClaims claims) {
+        if (!enabled || claims.expiresAt() == null) return;
+
+        Instant now = Instant.now();
+        if (!claims.expiresAt().isAfter(now)) return;
+
+        purgeExpired(now);
+        while (entries.size() >= maxSize) {
+            Entry oldest = byExpiry.pollFirst();
+            if (oldest == null) break;
+            if (entries.remove(oldest.key(), oldest)) evictions.incrementAndGet();
+        }
+
+        Entry e = new Entry(digest(token), claims, claims.expiresAt(), seq.incrementAndGet());
+        Entry prev = entries.put(e.key(), e);
+        if (prev != null) byExpiry.remove(prev);
+        byExpiry.add(e);
+    }
+
+    public void clear() {
+        entries.clear();
+        byExpiry.clear();
+    }
+
+    public Stats stats() {
+        return new Stats(hits.get(), misses.get(), evictions.get(), entries.size());
+    }
+
+    private void purgeExpired(Instant now) {
+        Entry head;
+        while ((head = byExpiry.pollFirst()) != null) {
+            if (head.expiresAt().isAfter(now)) {
+                byExpiry.add(head);
+                return;
+            }
+            if (entries.remove(head.key(), head)) evictions.incrementAndGet();
+        }
+    }
+
+    private void remove(Entry e) {
+        if (entries.remove(e.key(), e)) evictions.incrementAndGet();
+        byExpiry.remove(e);
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Entry(String key, VerifiedClaims claims, Instant expiresAt, long seq) {}
+
+    public record Stats(long hits, long misses, long evictions, int size) {}
+}
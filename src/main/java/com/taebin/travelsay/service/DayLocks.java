@@ -0,0 +1,72 @@
+package com.taebin.travelsay.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * dayId 기준 striped lock (단일 노드). 같은 Day 의 아이템 변경(count → shift → insert)을 직렬화한다.
+ * 트랜잭션 바깥에서 잡고 커밋 이후에 놓아야 다음 요청이 커밋된 상태를 본다
+ */
+@Component
+class DayLocks {
+
+    private static final int STRIPES = 1024;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    DayLocks() {
+        for (int i = 0; i < STRIPES; i++) locks[i] = new ReentrantLock();
+    }
+
+    <T> T withLock(Long dayId, Supplier<T> action) {
+        ReentrantLock lock = locks[stripe(dayId)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 두 Day 를 함께 잠글 때는 stripe 번호 순으로 (교착 방지). 같은 stripe 면 한 번만 */
+    <T> T withLocks(Long dayA, Long dayB, Supplier<T> action) {
+        int a = stripe(dayA), b = stripe(dayB);
+        if (a == b) return withLock(dayA, action);
+
+        ReentrantLock first = locks[Math.min(a, b)];
+        ReentrantLock second = locks[Math.max(a, b)];
+        first.lock();
+        try {
+            second.lock();
+            try {
+                return action.get();
+            } finally {
+                second.unlock();
+            }
+        } finally {
+            first.unlock();
+        }
+    }
+
+    /** 여러 Day 를 함께 잠글 때도 stripe 번호 순으로. 겹치는 stripe 는 한 번만 */
+    <T> T withLocks(Collection<Long> dayIds, Supplier<T> action) {
+        int[] stripes = dayIds.stream().mapToInt(DayLocks::stripe).distinct().sorted().toArray();
+        int held = 0;
+        try {
+            for (int s : stripes) {
+                locks[s].lock();
+                held++;
+            }
+            return action.get();
+        } finally {
+            for (int i = held - 1; i >= 0; i--) locks[stripes[i]].unlock();
+        }
+    }
+
+    private static int stripe(Long dayId) {
+        return Math.floorMod(dayId.hashCode(), STRIPES);
+    }
+}
@@ -0,0 +1,116 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.domain.trip.TripDay;
+import com.taebin.travelsay.domain.trip.TripItem;
+import com.taebin.travelsay.domain.trip.TripItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/** order_no = 1..n 연속 유지. 이동할 때마다 사이 구간을 한 칸씩 민다 */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.trip.ordering.mode", havingValue = "DENSE", matchIfMissing = true)
+class DenseItemOrdering implements ItemOrdering {
+
+    private static final int BIG = 100_000;
+
+    private final TripItemRepository tripItemRepository;
+
+    @Override
+    public int insertAt(Long dayId, int position, int count) {
+        if (position <= count) {
+            shift(dayId, position, count, +1);
+        }
+        return position;
+    }
+
+    @Override
+    public int[] insertBlockAt(Long dayId, int position, int count, int size) {
+        if (position <= count) {
+            shift(dayId, position, count, size);
+        }
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) keys[i] = position + i;
+        return keys;
+    }
+
+    @Override
+    public void afterRemove(Long dayId, int removedOrderNo, int count) {
+        // 삭제 전 개수 기준으로 당겨야 할 구간은 removedOrderNo+1 .. count
+        if (removedOrderNo < count) {
+            shift(dayId, removedOrderNo + 1, count, -1);
+        }
+    }
+
+    @Override
+    public void reorder(TripItem item, int position, int count) {
+        Long dayId = item.getTripDay().getId();
+        int cur = item.getOrderNo();
+        if (position == cur) return;
+
+        parkItemTemporarily(item);
+
+        if (position < cur) {
+            shift(dayId, position, cur - 1, +1);
+        } else {
+            shift(dayId, cur + 1, position, -1);
+        }
+        item.setOrderNo(position);
+        tripItemRepository.flush();
+    }
+
+    @Override
+    public void move(TripItem item, TripDay targetDay, int position, int sourceCount, int targetCount) {
+        Long srcDayId = item.getTripDay().getId();
+        int srcCur = item.getOrderNo();
+        int srcLast = sourceCount;
+
+        // 타깃 자리 먼저 확보
+        if (position <= targetCount) {
+            shift(targetDay.getId(), position, targetCount, +1);
+        }
+
+        // 대상 피신 (소스 day의 유니크 회피)
+        parkItemTemporarily(item);
+
+        // Day 이동 + 최종 order 세팅 (타깃 day 유니크도 이미 자리 확보로 안전)
+        item.moveTo(targetDay, position);
+        tripItemRepository.flush();
+
+        // 소스 day 빈자리 당기기
+        if (srcCur < srcLast) {
+            shift(srcDayId, srcCur + 1, srcLast, -1);
+        }
+    }
+
+    @Override
+    public void applyOrder(Long dayId, List<Long> orderedIds) {
+        tripItemRepository.applyOrder(dayId, orderedIds, 1);
+    }
+
+    @Override
+    public int positionOf(TripItem item) {
+        return item.getOrderNo();
+    }
+
+    private void shift(Long dayId, int start, int end, int delta) {
+        if (start > end || delta == 0) return;
+
+
+        tripItemRepository.offsetUp(dayId, start, end, BIG);
+        tripItemRepository.flush();
+
+        int down = BIG - delta;
+        tripItemRepository.normalizeAfterOffset(dayId, start + BIG, end + BIG, down);
+        tripItemRepository.flush();
+    }
+
+
+    private void parkItemTemporarily(TripItem item) {
+        item.setOrderNo(BIG * 2); // NOT NULL만 만족하면 OK
+        tripItemRepository.flush();
+    }
+}
@@ -0,0 +1,35 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.domain.trip.TripDay;
+import com.taebin.travelsay.domain.trip.TripItem;
+
+import java.util.List;
+
+/**
+ * Day 안 아이템의 order_no 관리 전략.
+ * position 은 항상 1부터 시작하는 연속 순번(클라이언트가 보는 orderNo).
+ * 범위 검증은 호출하는 쪽(TripService)에서 끝낸 뒤 호출한다.
+ */
+interface ItemOrdering {
+
+    /** position 자리를 확보하고 새 아이템에 넣을 order_no 반환 */
+    int insertAt(Long dayId, int position, int count);
+
+    /** position 부터 size 개 자리를 확보하고 순서대로 넣을 order_no 반환 */
+    int[] insertBlockAt(Long dayId, int position, int count, int size);
+
+    /** 아이템 삭제 후 정리. count 는 삭제 전 Day 의 아이템 수 */
+    void afterRemove(Long dayId, int removedOrderNo, int count);
+
+    /** 같은 Day 안에서 position 으로 이동 */
+    void reorder(TripItem item, int position, int count);
+
+    /** 다른 Day 의 position 으로 이동. sourceCount / targetCount 는 이동 전 각 Day 의 아이템 수 */
+    void move(TripItem item, TripDay targetDay, int position, int sourceCount, int targetCount);
+
+    /** Day 전체를 orderedIds 순서로 다시 기록 (검증 끝난 전체 목록) */
+    void applyOrder(Long dayId, List<Long> orderedIds);
+
+    /** 아이템의 현재 순번 */
+    int positionOf(TripItem item);
+}
@@ -2,6 +2,7 @@ package com.taebin.travelsay.service;
 
 
 import com.taebin.travelsay.domain.member.Member;
+import com.taebin.travelsay.domain.member.MemberConflicts;
 import com.taebin.travelsay.domain.member.MemberRepository;
 import com.taebin.travelsay.domain.member.MemberRole;
 import com.taebin.travelsay.domain.member.MemberStatus;
@@ -13,14 +14,21 @@ import com.taebin.travelsay.dto.member.response.AuthResponse;
 import com.taebin.travelsay.dto.member.response.MeResponse;
 import com.taebin.travelsay.dto.member.response.UpdateProfileResponse;
 import com.taebin.travelsay.security.JwtTokenProvider;
+import com.taebin.travelsay.security.PasswordHashingBusyException;
+import com.taebin.travelsay.security.TokenVersionCache;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -30,6 +38,7 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVersionCache tokenVersionCache;
 
     @Transactional
     public void signup(SignupRequest request) {
@@ -37,10 +46,13 @@ public class MemberService {
             throw new IllegalArgumentException("비밀번호와 비밀번호 확인이 일치하지 않습니다");
         }
 
-        var existingOpt = memberRepository.findByLoginId(request.loginId());
+        // 아이디 / 이메일 / 전화번호 중복을 쿼리 1번으로
+        MemberConflicts conflicts = memberRepository.findConflicts(
+                request.loginId(), request.email(), request.phoneNumber(), null);
 
-        if (existingOpt.isPresent()) {
-            Member existing = existingOpt.get();
+        if (conflicts.loginIdTaken()) {
+            Member existing = memberRepository.findByLoginId(request.loginId())
+                    .orElseThrow(() -> new IllegalArgumentException("이미 사용중인 아이디입니다."));
 
             // 이미 ACTIVE면 중복 가입 불가
             if (existing.getStatus() == MemberStatus.ACTIVE) {
@@ -48,10 +60,10 @@ public class MemberService {
             }
 
             // INACTIVE면 재가입 처리,  본인 제외 다른 사용자와 이메일/전화번호 중복만 막음
-            if (memberRepository.existsByEmailAndMemberIdNot(request.email(), existing.getMemberId())) {
+            if (conflicts.emails() > (request.email().equals(existing.getEmail()) ? 1 : 0)) {
                 throw new IllegalArgumentException("이미 사용중인 이메일입니다.");
             }
-            if (memberRepository.existsByPhoneNumberAndMemberIdNot(request.phoneNumber(), existing.getMemberId())) {
+            if (conflicts.phoneNumbers() > (request.phoneNumber().equals(existing.getPhoneNumber()) ? 1 : 0)) {
                 throw new IllegalArgumentException("이미 사용중인 전화번호입니다.");
             }
 
@@ -65,15 +77,17 @@ public class MemberService {
 
             // 기존 토큰 무효화
             existing.setTokenVersion(existing.getTokenVersion() + 1);
+            tokenVersionCache.invalidate(existing.getMemberId());
 
+            flushUnique();
             return;
         }
 
         // 신규 가입, 이메일/전화번호는 전체 회원 기준 중복체크
-        if (memberRepository.existsByEmail(request.email())) {
+        if (conflicts.emailTaken()) {
             throw new IllegalArgumentException("이미 사용중인 이메일입니다.");
         }
-        if (memberRepository.existsByPhoneNumber(request.phoneNumber())) {
+        if (conflicts.phoneNumberTaken()) {
             throw new IllegalArgumentException("이미 사용중인 전화번호입니다.");
         }
 
@@ -90,13 +104,21 @@ public class MemberService {
         );
 
         memberRepository.save(member);
+        flushUnique();
     }
 
-    @Transactional(readOnly = true)
+    // cost 가 바뀐 해시를 다시 저장할 수 있도록 readOnly 아님 (재해시가 없으면 UPDATE 도 없음)
+    @Transactional
     public AuthResponse login(LoginRequest request) {
         UsernamePasswordAuthenticationToken authToken =
                 new UsernamePasswordAuthenticationToken(request.loginId(), request.password());
-        authenticationManager.authenticate(authToken);
+        try {
+            authenticationManager.authenticate(authToken);
+        } catch (InternalAuthenticationServiceException e) {
+            // 없는 아이디 경로에서는 Provider 가 감싸서 던짐 → 503 그대로 전달
+            if (e.getCause() instanceof PasswordHashingBusyException busy) throw busy;
+            throw e;
+        }
 
         Member member = memberRepository.findByLoginId(request.loginId())
                 .orElseThrow(() -> new IllegalArgumentException("회원이 존재하지 않습니다."));
@@ -105,6 +127,11 @@ public class MemberService {
             throw new IllegalStateException("비활성화된 계정입니다.");
         }
 
+        // 저장된 해시의 cost 가 설정과 다르면 방금 확인한 평문으로 다시 해시
+        if (passwordEncoder.upgradeEncoding(member.getPassword())) {
+            member.setPassword(passwordEncoder.encode(request.password()));
+        }
+
         String accessToken = jwtTokenProvider.createToken(
                 member.getMemberId(),
                 member.getLoginId(),
@@ -120,6 +147,7 @@ public class MemberService {
 
         if (verInToken != null) {
             memberRepository.bumpIfMatchesByMemberId(memberId, verInToken);
+            tokenVersionCache.invalidate(memberId);
         }
     }
 
@@ -172,23 +200,32 @@ public class MemberService {
         boolean reloginRequired = false;
 
 
-        if (idChanged) {
-            if (memberRepository.existsByLoginId(newId)) {
+        // 바뀌는 값만 중복 검사 (쿼리 1번, 본인 제외)
+        if (idChanged || mailChanged || telChanged) {
+            MemberConflicts conflicts = memberRepository.findConflicts(
+                    idChanged ? newId : null,
+                    mailChanged ? newMail : null,
+                    telChanged ? newTel : null,
+                    m.getMemberId());
+            if (conflicts.loginIdTaken()) {
                 throw new IllegalArgumentException("이미 사용중인 아이디입니다.");
             }
+            if (conflicts.emailTaken()) {
+                throw new IllegalArgumentException("이미 사용중인 이메일입니다.");
+            }
+            if (conflicts.phoneNumberTaken()) {
+                throw new IllegalArgumentException("이미 사용중인 전화번호입니다.");
+            }
+        }
+
+        if (idChanged) {
             m.setLoginId(newId);
             reloginRequired = true;
         }
         if (mailChanged) {
-            if (memberRepository.existsByEmail(newMail)) {
-                throw new IllegalArgumentException("이미 사용중인 이메일입니다.");
-            }
             m.setEmail(newMail);
         }
         if (telChanged) {
-            if (memberRepository.existsByPhoneNumber(newTel)) {
-                throw new IllegalArgumentException("이미 사용중인 전화번호입니다.");
-            }
             m.setPhoneNumber(newTel);
         }
 
@@ -199,7 +236,8 @@ public class MemberService {
             if (!newPw.equals(newPwC)) {
                 throw new IllegalArgumentException("비밀번호와 비밀번호 확인이 일치하지 않습니다.");
             }
-            if (passwordEncoder.matches(newPw, m.getPassword())) {
+            // 현재 비밀번호는 위에서 확인했으므로 평문 비교로 충분 (BCrypt 한 번 절약)
+            if (newPw.equals(curPw)) {
                 throw new IllegalArgumentException("현재 비밀번호와 다른 비밀번호를 사용해 주세요.");
             }
             m.setPassword(passwordEncoder.encode(newPw));
@@ -209,6 +247,11 @@ public class MemberService {
         // 아이디, 비밀번호 변경 시 토큰 버전 증가
         if (reloginRequired) {
             m.setTokenVersion(m.getTokenVersion() + 1);
+            tokenVersionCache.invalidate(m.getMemberId());
+        }
+
+        if (idChanged || mailChanged || telChanged) {
+            flushUnique();
         }
 
         return new UpdateProfileResponse(reloginRequired);
@@ -237,6 +280,29 @@ public class MemberService {
 
         member.setStatus(MemberStatus.INACTIVE);
         member.setTokenVersion(member.getTokenVersion() + 1);
+        tokenVersionCache.invalidate(member.getMemberId());
+    }
+
+    /**
+     * 중복 검사와 저장 사이에 다른 요청이 같은 값을 먼저 넣은 경우.
+     * 여기서 flush 해서 unique 제약 위반을 검사 때와 같은 메시지로 바꾼다
+     */
+    private void flushUnique() {
+        try {
+            memberRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateOf(e);
+        }
+    }
+
+    static RuntimeException duplicateOf(DataIntegrityViolationException e) {
+        String constraint = e.getCause() instanceof ConstraintViolationException cve && cve.getConstraintName() != null
+                ? cve.getConstraintName().toLowerCase(Locale.ROOT)
+                : "";
+        if (constraint.contains("uk_login_id")) return new IllegalArgumentException("이미 사용중인 아이디입니다.");
+        if (constraint.contains("uk_email")) return new IllegalArgumentException("이미 사용중인 이메일입니다.");
+        if (constraint.contains("uk_phone_number")) return new IllegalArgumentException("이미 사용중인 전화번호입니다.");
+        return e;
     }
 
     private static String safeTrim(String s) {
@@ -0,0 +1,135 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.config.PublicFeedProperties;
+import com.taebin.travelsay.domain.trip.TripPlanRepository;
+import com.taebin.travelsay.dto.trip.plan.response.PublicPlanPage;
+import com.taebin.travelsay.dto.trip.plan.response.PublicPlanRow;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공개 플랜 피드 (updated_at desc, id desc keyset).
+ * 앞쪽 headSize 행은 ttl 동안 메모리에 들고 있다가 바로 응답하고(read-through), 그 뒤 페이지는 DB keyset 조회.
+ * 플랜이 비공개로 바뀌거나 삭제되면 TripService 가 커밋 직후 evict() 로 비운다 (ttl 까지 기다리지 않음)
+ */
+@Service
+@Transactional(readOnly = true)
+public class PublicPlanFeedService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TripPlanRepository tripPlanRepository;
+    private final int headSize;
+    private final long ttlNanos;
+
+    private volatile Head head;
+    // evict 가 일어나면 증가. 다시 읽는 도중 evict 가 끼어들면 그 결과는 캐시에 넣지 않는다
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PublicPlanFeedService(TripPlanRepository tripPlanRepository, PublicFeedProperties properties) {
+        this.tripPlanRepository = tripPlanRepository;
+        this.headSize = properties.getHeadSize();
+        this.ttlNanos = properties.getTtl().toNanos();
+    }
+
+    /** cursor 는 이전 페이지의 nextCursor ("updatedAt,planId") */
+    public PublicPlanPage getPage(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) throw new IllegalArgumentException("size 범위 오류");
+
+        LocalDateTime afterUpdatedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            int comma = cursor.indexOf(',');
+            if (comma <= 0) throw new IllegalArgumentException("cursor 형식 오류");
+            try {
+                afterUpdatedAt = LocalDateTime.parse(cursor.substring(0, comma));
+                afterId = Long.valueOf(cursor.substring(comma + 1));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("cursor 형식 오류");
+            }
+        }
+
+        List<PublicPlanRow> rows = fromHead(afterUpdatedAt, afterId, size);
+        if (rows == null) {
+            PageRequest limit = PageRequest.of(0, size + 1);
+            rows = (afterId == null)
+                    ? tripPlanRepository.findPublicPlans(limit)
+                    : tripPlanRepository.findPublicPlansAfter(afterUpdatedAt, afterId, limit);
+        }
+
+        if (rows.size() <= size) return new PublicPlanPage(rows, null);
+        List<PublicPlanRow> page = List.copyOf(rows.subList(0, size));
+        PublicPlanRow last = page.get(size - 1);
+        return new PublicPlanPage(page, last.updatedAt() + "," + last.planId());
+    }
+
+    /** 캐시된 앞부분을 버린다. 다음 요청이 DB 에서 다시 읽음 */
+    public void evict() {
+        evictions.incrementAndGet();
+        head = null;
+    }
+
+    /** 트랜잭션 안이면 커밋 후에 (그 전에 비우면 다른 요청이 커밋 전 상태로 다시 채운다) */
+    public void evictAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict();
+            }
+        });
+    }
+
+    /** 캐시된 앞부분으로 응답할 수 있으면 size+1 행(또는 끝까지), 아니면 null */
+    private List<PublicPlanRow> fromHead(LocalDateTime afterUpdatedAt, Long afterId, int size) {
+        if (headSize == 0) return null;
+        Head h = currentHead();
+
+        int from = 0;
+        if (afterId != null) {
+            while (from < h.rows().size() && !isAfter(h.rows().get(from), afterUpdatedAt, afterId)) from++;
+        }
+        int to = from + size + 1;
+        if (to > h.rows().size()) {
+            if (!h.complete()) return null;
+            to = h.rows().size();
+        }
+        return h.rows().subList(from, to);
+    }
+
+    private static boolean isAfter(PublicPlanRow row, LocalDateTime updatedAt, Long planId) {
+        int c = row.updatedAt().compareTo(updatedAt);
+        return c < 0 || (c == 0 && row.planId() < planId);
+    }
+
+    private Head currentHead() {
+        Head h = head;
+        long now = System.nanoTime();
+        if (h != null && now - h.loadedAt() < ttlNanos) return h;
+
+        synchronized (this) {
+            h = head;
+            if (h != null && System.nanoTime() - h.loadedAt() < ttlNanos) return h;
+
+            long gen = evictions.get();
+            List<PublicPlanRow> rows = tripPlanRepository.findPublicPlans(PageRequest.of(0, headSize + 1));
+            boolean complete = rows.size() <= headSize;
+            h = new Head(List.copyOf(complete ? rows : rows.subList(0, headSize)), complete, System.nanoTime());
+            if (gen == evictions.get()) head = h;
+            return h;
+        }
+    }
+
+    private record Head(List<PublicPlanRow> rows, boolean complete, long loadedAt) {}
+}
@@ -0,0 +1,140 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.config.TripOrderingProperties;
+import com.taebin.travelsay.domain.trip.TripDay;
+import com.taebin.travelsay.domain.trip.TripItem;
+import com.taebin.travelsay.domain.trip.TripItemRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * order_no 를 gap 간격의 정렬 키로 사용.
+ * 이동/추가 시 앞뒤 키의 중간값을 주므로 보통 한 행만 바뀌고,
+ * 중간값이 없을 때만 해당 Day 를 gap 간격으로 다시 펼친다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.trip.ordering.mode", havingValue = "SPARSE")
+class SparseItemOrdering implements ItemOrdering {
+
+    private final TripItemRepository tripItemRepository;
+    private final int gap;
+
+    SparseItemOrdering(TripItemRepository tripItemRepository, TripOrderingProperties properties) {
+        this.tripItemRepository = tripItemRepository;
+        this.gap = properties.getGap();
+    }
+
+    @Override
+    public int insertAt(Long dayId, int position, int count) {
+        return keyFor(dayId, position, null);
+    }
+
+    @Override
+    public int[] insertBlockAt(Long dayId, int position, int count, int size) {
+        return keysFor(dayId, position, size, null);
+    }
+
+    @Override
+    public void afterRemove(Long dayId, int removedOrderNo, int count) {
+        // 빈자리는 그대로 둔다
+    }
+
+    @Override
+    public void reorder(TripItem item, int position, int count) {
+        item.setOrderNo(keyFor(item.getTripDay().getId(), position, item));
+        tripItemRepository.flush();
+    }
+
+    @Override
+    public void move(TripItem item, TripDay targetDay, int position, int sourceCount, int targetCount) {
+        item.moveTo(targetDay, keyFor(targetDay.getId(), position, item));
+        tripItemRepository.flush();
+    }
+
+    @Override
+    public void applyOrder(Long dayId, List<Long> orderedIds) {
+        tripItemRepository.applyOrder(dayId, orderedIds, gap);
+    }
+
+    @Override
+    public int positionOf(TripItem item) {
+        return tripItemRepository.countByTripDayIdAndOrderNoLessThan(item.getTripDay().getId(), item.getOrderNo()) + 1;
+    }
+
+    /** moving 을 뺀 나머지 중 position 자리에 들어갈 키 */
+    private int keyFor(Long dayId, int position, TripItem moving) {
+        return keysFor(dayId, position, 1, moving)[0];
+    }
+
+    /** position 자리부터 size 개의 연속 키. 틈이 모자라면 그 자리를 비워두고 Day 를 다시 펼친다 */
+    private int[] keysFor(Long dayId, int position, int size, TripItem moving) {
+        int[] keys = between(dayId, position, size, moving);
+        if (keys != null) return keys;
+
+        rebalance(dayId, moving, position, size);
+        keys = new int[size];
+        for (int i = 0; i < size; i++) keys[i] = (position + i) * gap;
+        return keys;
+    }
+
+    private int[] between(Long dayId, int position, int size, TripItem moving) {
+        long excludeId = (moving == null) ? -1L : moving.getId();
+        int offset = Math.max(position - 2, 0);
+        int limit = (position >= 2) ? 2 : 1;
+        List<Integer> window = tripItemRepository.findOrderNoWindow(dayId, excludeId, offset, limit);
+
+        long prev = 0;
+        Long next = null;
+        if (position >= 2) {
+            if (window.isEmpty()) return null;
+            prev = window.get(0);
+            if (window.size() > 1) next = (long) window.get(1);
+        } else if (!window.isEmpty()) {
+            next = (long) window.get(0);
+        }
+
+        long step;
+        if (next == null) {
+            if (prev + (long) size * gap > Integer.MAX_VALUE) return null;
+            step = gap;
+        } else {
+            if (next - prev - 1 < size) return null;
+            step = (next - prev) / (size + 1);
+        }
+
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) keys[i] = (int) (prev + step * (i + 1));
+        return keys;
+    }
+
+    /**
+     * Day 의 아이템을 gap, 2*gap, ... 으로 재배치하되 position 부터 size 칸은 비워둔다.
+     * moving 은 맨 뒤 임시 키에 남겨두고 호출자가 최종 키를 준다.
+     * 유니크 충돌을 피하려고 먼저 모든 행을 새 키 범위 밖으로 피신시킨 뒤 채운다.
+     */
+    private void rebalance(Long dayId, TripItem moving, int position, int size) {
+        tripItemRepository.flush();
+        List<TripItem> items = tripItemRepository.findByTripDayIdOrderByOrderNoAsc(dayId);
+
+        long maxKey = items.isEmpty() ? 0 : items.get(items.size() - 1).getOrderNo();
+        long park = Math.max(maxKey, (long) (items.size() + size + 1) * gap) + 1;
+        if (park + items.size() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("order_no 범위 초과. dayId=" + dayId);
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).setOrderNo((int) (park + i));
+        }
+        tripItemRepository.flush();
+
+        int n = 0;
+        for (TripItem it : items) {
+            if (moving != null && it.getId().equals(moving.getId())) continue;
+            n++;
+            it.setOrderNo((n >= position ? n + size : n) * gap);
+        }
+        tripItemRepository.flush();
+    }
+}
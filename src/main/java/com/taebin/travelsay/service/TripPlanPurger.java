@@ -0,0 +1,71 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.config.TripDeleteProperties;
+import com.taebin.travelsay.domain.trip.TripDayRepository;
+import com.taebin.travelsay.domain.trip.TripItemRepository;
+import com.taebin.travelsay.domain.trip.TripPlanRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * soft-delete 된 플랜의 item → day → plan 을 chunk 단위로 삭제.
+ * chunk 마다 트랜잭션을 따로 잡아서 잠금을 짧게 유지한다 (편집 요청을 오래 막지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TripPlanPurger {
+
+    private final TripPlanRepository tripPlanRepository;
+    private final TripDayRepository tripDayRepository;
+    private final TripItemRepository tripItemRepository;
+    private final TripDeleteProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(initialDelayString = "${spring.trip.delete.purge-interval:PT10S}",
+               fixedDelayString = "${spring.trip.delete.purge-interval:PT10S}")
+    public void purge() {
+        List<Long> planIds = tripPlanRepository.findDeletedPlanIds(
+                PageRequest.of(0, properties.getPurgePlansPerRun()));
+        for (Long planId : planIds) {
+            purgePlan(planId);
+        }
+    }
+
+    void purgePlan(Long planId) {
+        Pageable chunk = PageRequest.of(0, properties.getPurgeChunkSize());
+
+        int items = 0, n;
+        do {
+            n = deleteChunk(() -> tripItemRepository.findIdsByPlan(planId, chunk), tripItemRepository);
+            items += n;
+        } while (n == chunk.getPageSize());
+
+        int days = 0;
+        do {
+            n = deleteChunk(() -> tripDayRepository.findIdsByPlan(planId, chunk), tripDayRepository);
+            days += n;
+        } while (n == chunk.getPageSize());
+
+        deleteChunk(() -> List.of(planId), tripPlanRepository);
+        log.info("[Purge] plan={} days={} items={}", planId, days, items);
+    }
+
+    private int deleteChunk(Supplier<List<Long>> ids, JpaRepository<?, Long> repository) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> chunk = ids.get();
+            if (!chunk.isEmpty()) repository.deleteAllByIdInBatch(chunk);
+            return chunk.size();
+        });
+        return deleted == null ? 0 : deleted;
+    }
+}
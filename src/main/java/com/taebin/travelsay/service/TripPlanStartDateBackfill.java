@@ -0,0 +1,25 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.domain.trip.TripPlanRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/** trip_plan.start_date 도입 전에 만들어진 플랜의 시작일을 채운다 (이미 채워진 행은 건드리지 않음) */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TripPlanStartDateBackfill implements ApplicationRunner {
+
+    private final TripPlanRepository tripPlanRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int updated = tripPlanRepository.backfillStartDates();
+        if (updated > 0) log.info("[Backfill] trip_plan.start_date filled: {}", updated);
+    }
+}
@@ -1,5 +1,6 @@
 package com.taebin.travelsay.service;
 
+import com.taebin.travelsay.config.TripDeleteProperties;
 import com.taebin.travelsay.domain.member.Member;
 import com.taebin.travelsay.domain.member.MemberRepository;
 import com.taebin.travelsay.domain.trip.TripDay;
@@ -9,18 +10,38 @@ import com.taebin.travelsay.domain.trip.TripItemRepository;
 import com.taebin.travelsay.domain.trip.TripPlan;
 import com.taebin.travelsay.domain.trip.TripPlanRepository;
 
+import com.taebin.travelsay.dto.trip.day.response.DayResponse;
 import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemsRequest;
 import com.taebin.travelsay.dto.trip.item.request.UpdateItemRequest;
+import com.taebin.travelsay.dto.trip.item.response.ItemResponse;
+import com.taebin.travelsay.dto.trip.item.response.ItemTimeRow;
 import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
 import com.taebin.travelsay.dto.trip.plan.request.UpdatePlanRequest;
+import com.taebin.travelsay.dto.trip.plan.response.MyPlanPage;
 import com.taebin.travelsay.dto.trip.plan.response.MyPlanRow;
+import com.taebin.travelsay.dto.trip.plan.response.PlanDetailResponse;
+import com.taebin.travelsay.dto.trip.plan.response.PlanResponse;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +52,13 @@ public class TripService {
     private final TripDayRepository tripDayRepository;
     private final TripItemRepository tripItemRepository;
     private final MemberRepository memberRepository;
+    private final ItemOrdering itemOrdering;
+    private final TripDeleteProperties deleteProperties;
+    private final DayLocks dayLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final PublicPlanFeedService publicPlanFeedService;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     // ===== Plan =====
     public TripPlan createPlan(String memberId, CreatePlanRequest request) {
@@ -40,16 +68,31 @@ public class TripService {
         return tripPlanRepository.save(plan);
     }
 
-    public TripPlan updatePlan(Long planId, UpdatePlanRequest request, String memberId) {
+    public TripPlan updatePlan(Long planId, UpdatePlanRequest request, Long version, String memberId) {
         TripPlan plan = getOwnedPlanOrThrow(planId, memberId);
+        expectVersion(plan, version);
+        boolean visibilityChanged = plan.isPublic() != request.isPublic();
         plan.changeTitle(request.title());
         plan.setVisibility(request.isPublic());
         plan.setCompleted(request.isCompleted());
+        // 비공개로 바뀐 플랜이 공개 피드 캐시에 남지 않도록
+        if (visibilityChanged) publicPlanFeedService.evictAfterCommit();
         return plan;
     }
 
-    public void deletePlan(Long planId, String memberId) {
+    /**
+     * IMMEDIATE: Plan 크기와 무관하게 item / day / plan 벌크 DELETE 3문장
+     * SOFT: deleted_at 만 찍고 반환 (실제 삭제는 TripPlanPurger)
+     */
+    public void deletePlan(Long planId, Long version, String memberId) {
         TripPlan plan = getOwnedPlanOrThrow(planId, memberId);
+        expectVersion(plan, version);
+        if (plan.isPublic()) publicPlanFeedService.evictAfterCommit();
+
+        if (deleteProperties.getMode() == TripDeleteProperties.Mode.SOFT) {
+            plan.markDeleted();
+            return;
+        }
 
         tripItemRepository.deleteByTripPlanId(plan.getId());
         tripDayRepository.deleteByTripPlanId(plan.getId());
@@ -62,6 +105,51 @@ public class TripService {
         return tripDayRepository.findByTripPlanIdOrderByTripDateAsc(planId);
     }
 
+    /** Plan + Day + Item 을 고정된 쿼리 수(plan 1, day 1, item 1)로 읽어 메모리에서 조립 */
+    @Transactional(readOnly = true)
+    public PlanDetailResponse getPlanDetail(Long planId, String memberId) {
+        TripPlan plan = getOwnedPlanOrThrow(planId, memberId);
+        List<TripDay> days = tripDayRepository.findByTripPlanIdOrderByTripDateAsc(planId);
+
+        Map<Long, List<PlanDetailResponse.ItemRow>> itemsByDay = new HashMap<>();
+        if (!days.isEmpty()) {
+            List<Long> dayIds = days.stream().map(TripDay::getId).toList();
+            for (TripItem i : tripItemRepository.findByTripDayIdInOrderByOrderNoAsc(dayIds)) {
+                itemsByDay.computeIfAbsent(i.getTripDay().getId(), k -> new ArrayList<>())
+                        .add(new PlanDetailResponse.ItemRow(
+                                i.getId(),
+                                i.getStartTime(),
+                                i.getTitle(),
+                                i.getAmount(),
+                                i.getMerchant(),
+                                i.getMemo(),
+                                i.getVersion()
+                        ));
+            }
+        }
+
+        List<PlanDetailResponse.DayRow> dayRows = days.stream()
+                .map(d -> new PlanDetailResponse.DayRow(
+                        d.getId(),
+                        d.getTripDate(),
+                        d.getVersion(),
+                        d.getItemCount(),
+                        d.getTotalAmount(),
+                        itemsByDay.getOrDefault(d.getId(), List.of())))
+                .toList();
+
+        return new PlanDetailResponse(
+                plan.getId(),
+                plan.getTitle(),
+                plan.isPublic(),
+                plan.isCompleted(),
+                plan.getVersion(),
+                plan.getItemCount(),
+                plan.getTotalAmount(),
+                dayRows
+        );
+    }
+
     // ===== Day =====
     public TripDay addDay(Long planId, LocalDate tripDate, String memberId) {
         TripPlan plan = getOwnedPlanOrThrow(planId, memberId);
@@ -69,111 +157,212 @@ public class TripService {
             throw new IllegalArgumentException("이미 같은 날짜가 존재합니다.");
         }
         TripDay day = TripDay.create(plan, tripDate);
+        plan.includeDay(tripDate);
         return tripDayRepository.save(day);
     }
 
-    public void removeDay(Long dayId, String memberId) {
-        TripDay day = tripDayRepository.findById(dayId)
-                .orElseThrow(() -> new EntityNotFoundException("day"));
-        ensurePlanOwnership(day.getTripPlan(), memberId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void removeDay(Long dayId, Long version, String memberId) {
+        inDayLock(dayId, () -> {
+            removeDayLocked(dayId, version, memberId);
+            return null;
+        });
+    }
+
+    private void removeDayLocked(Long dayId, Long version, String memberId) {
+        TripDay day = ownedDay(dayId, memberId);
+        expectVersion(day, version);
 
         tripItemRepository.deleteByTripDayId(dayId); // Item 먼저 삭제
         tripDayRepository.delete(day);
+        tripPlanRepository.addTotals(day.getTripPlan().getId(), -day.getItemCount(), -day.getTotalAmount());
+
+        // 시작일이던 Day 를 지웠으면 남은 Day 중 가장 이른 날짜로
+        TripPlan plan = day.getTripPlan();
+        if (day.getTripDate().equals(plan.getStartDate())) {
+            plan.setStartDate(tripDayRepository.findMinTripDate(plan.getId()));
+        }
     }
 
     @Transactional(readOnly = true)
     public List<TripItem> listItems(Long tripDayId, String memberId) {
-        TripDay day = tripDayRepository.findById(tripDayId)
-                .orElseThrow(() -> new EntityNotFoundException("day"));
-        ensurePlanOwnership(day.getTripPlan(), memberId);
+        if (!tripDayRepository.isOwned(tripDayId, memberId)) {
+            throw ownershipFailure("day", tripDayRepository.findById(tripDayId).map(TripDay::getTripPlan), memberId);
+        }
         return tripItemRepository.findByTripDayIdOrderByOrderNoAsc(tripDayId);
     }
 
     // ===== Item =====
-    public TripItem addItem(Long dayId, CreateItemRequest req, String memberId) {
-        TripDay day = tripDayRepository.findById(dayId).orElseThrow(() -> new EntityNotFoundException("day"));
-        ensurePlanOwnership(day.getTripPlan(), memberId);
+    // 같은 Day 의 아이템 변경은 DayLocks 로 직렬화하고, 트랜잭션은 잠금 안에서 시작/커밋한다
+    // (트랜잭션이 먼저 열리면 REPEATABLE READ 스냅샷이 앞 요청의 커밋 이전 상태를 볼 수 있음)
 
-        int last = tripItemRepository.countByTripDayId(dayId);
-        int orderNo = (req.orderNo() == null) ? last + 1 : req.orderNo();
-        if (orderNo < 1 || orderNo > last + 1) throw new IllegalArgumentException("orderNo 범위 오류");
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TripItem addItem(Long dayId, CreateItemRequest req, Long version, String memberId) {
+        return inDayLock(dayId, () -> addItemLocked(dayId, req, version, memberId));
+    }
 
-        if (orderNo <= last) {
-            shift(dayId, orderNo, last, +1);
-        }
+    private TripItem addItemLocked(Long dayId, CreateItemRequest req, Long version, String memberId) {
+        TripDay day = ownedDay(dayId, memberId);
+        expectVersion(day, version);
+
+        int last = day.getItemCount();
+        int position = (req.orderNo() == null) ? last + 1 : req.orderNo();
+        if (position < 1 || position > last + 1) throw new IllegalArgumentException("orderNo 범위 오류");
+
+        int orderNo = itemOrdering.insertAt(dayId, position, last);
 
         TripItem item = TripItem.create(day, req.title(), req.startTime(),
                 req.amount(), req.merchant(), req.memo(), orderNo);
 
-        return tripItemRepository.save(item);
+        TripItem saved = tripItemRepository.save(item);
+        saved.setPosition(position);
+        touchDay(day, 1, amountOf(req.amount()));
+        return saved;
     }
 
-    public TripItem updateItem(Long itemId, UpdateItemRequest request, String memberId) {
-        TripItem item = tripItemRepository.findById(itemId)
-                .orElseThrow(() -> new EntityNotFoundException("item"));
-        ensurePlanOwnership(item.getTripDay().getTripPlan(), memberId);
+    /** 여러 아이템을 position 부터 연속으로 한 번에 추가 (INSERT 1회) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TripItem> addItems(Long dayId, CreateItemsRequest req, Long version, String memberId) {
+        return inDayLock(dayId, () -> addItemsLocked(dayId, req, version, memberId));
+    }
+
+    private List<TripItem> addItemsLocked(Long dayId, CreateItemsRequest req, Long version, String memberId) {
+        TripDay day = ownedDay(dayId, memberId);
+        expectVersion(day, version);
+
+        int last = day.getItemCount();
+        int position = (req.orderNo() == null) ? last + 1 : req.orderNo();
+        if (position < 1 || position > last + 1) throw new IllegalArgumentException("orderNo 범위 오류");
+
+        List<CreateItemRequest> rows = req.items();
+        int[] orderNos = itemOrdering.insertBlockAt(dayId, position, last, rows.size());
 
+        List<TripItem> items = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            CreateItemRequest r = rows.get(i);
+            items.add(TripItem.create(day, r.title(), r.startTime(),
+                    r.amount(), r.merchant(), r.memo(), orderNos[i]));
+        }
+        tripItemRepository.insertAll(items);
+        touchDay(day, rows.size(), rows.stream().mapToLong(r -> amountOf(r.amount())).sum());
+
+        List<TripItem> saved = tripItemRepository.findByTripDayIdAndOrderNoBetweenOrderByOrderNoAsc(
+                dayId, orderNos[0], orderNos[orderNos.length - 1]);
+        for (int i = 0; i < saved.size(); i++) saved.get(i).setPosition(position + i);
+        return saved;
+    }
+
+    public TripItem updateItem(Long itemId, UpdateItemRequest request, Long version, String memberId) {
+        // 순서는 바뀌지 않지만 응답에 순번이 필요하므로 조회 문장에서 같이 계산 (잠금 없이 별도 COUNT 를 하지 않도록)
+        TripItem item = tripItemRepository.findOwnedWithPositionById(itemId, memberId)
+                .orElseThrow(() -> ownershipFailure("item",
+                        tripItemRepository.findById(itemId).map(i -> i.getTripDay().getTripPlan()), memberId));
+        expectVersion(item, version);
+
+        long amountDelta = amountOf(request.amount()) - amountOf(item.getAmount());
         item.update(request.title(), request.startTime(),
                 request.amount(), request.merchant(), request.memo());
 
+        if (amountDelta != 0) {
+            TripDay day = item.getTripDay();
+            tripDayRepository.addAmount(day.getId(), amountDelta);
+            tripPlanRepository.addTotals(day.getTripPlan().getId(), 0, amountDelta);
+        }
+
         return item;
     }
 
-    public void deleteItem(Long itemId, String memberId) {
-        TripItem item = tripItemRepository.findById(itemId)
-                .orElseThrow(() -> new EntityNotFoundException("item"));
-        ensurePlanOwnership(item.getTripDay().getTripPlan(), memberId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteItem(Long itemId, Long version, String memberId) {
+        Long dayId = dayIdOfItem(itemId);
+        inDayLock(dayId, () -> {
+            deleteItemLocked(itemId, dayId, version, memberId);
+            return null;
+        });
+    }
+
+    private void deleteItemLocked(Long itemId, Long lockedDayId, Long version, String memberId) {
+        TripItem item = lockedItem(itemId, lockedDayId, memberId);
+        expectVersion(item, version);
 
-        Long tripDayId = item.getTripDay().getId();
+        TripDay day = item.getTripDay();
         int removedOrderNo = item.getOrderNo();
 
         tripItemRepository.delete(item);
 
-        int lastOrderNo = tripItemRepository.countByTripDayId(tripDayId);
-        if (removedOrderNo <= lastOrderNo) {
-            shift(tripDayId, removedOrderNo, lastOrderNo, -1);
-        }
+        itemOrdering.afterRemove(day.getId(), removedOrderNo, day.getItemCount());
+        touchDay(day, -1, -amountOf(item.getAmount()));
     }
 
-    public void reorder(Long itemId, int newOrderNo, String memberId) {
-        TripItem item = tripItemRepository.findById(itemId)
-                .orElseThrow(() -> new EntityNotFoundException("item"));
-        ensurePlanOwnership(item.getTripDay().getTripPlan(), memberId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reorder(Long itemId, int newOrderNo, Long version, String memberId) {
+        Long dayId = dayIdOfItem(itemId);
+        inDayLock(dayId, () -> {
+            reorderLocked(itemId, dayId, newOrderNo, version, memberId);
+            return null;
+        });
+    }
+
+    private void reorderLocked(Long itemId, Long lockedDayId, int newOrderNo, Long version, String memberId) {
+        TripItem item = lockedItem(itemId, lockedDayId, memberId);
+        expectVersion(item, version);
 
-        Long dayId = item.getTripDay().getId();
-        int cur = item.getOrderNo();
-        int last = tripItemRepository.countByTripDayId(dayId);
+        TripDay day = item.getTripDay();
+        int last = day.getItemCount();
 
         if (newOrderNo < 1 || newOrderNo > last) throw new IllegalArgumentException("orderNo 범위 오류");
-        if (newOrderNo == cur) return;
 
-        parkItemTemporarily(item);
+        itemOrdering.reorder(item, newOrderNo, last);
+        touchDay(day, 0, 0);
+    }
 
-        if (newOrderNo < cur) {
-            shift(dayId, newOrderNo, cur - 1, +1);
-        } else {
-            shift(dayId, cur + 1, newOrderNo, -1);
+    /** Day 전체 순서를 한 번에 교체. itemIds 는 해당 Day 아이템 전체여야 한다 */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reorderDay(Long dayId, List<Long> itemIds, Long version, String memberId) {
+        inDayLock(dayId, () -> {
+            reorderDayLocked(dayId, itemIds, version, memberId);
+            return null;
+        });
+    }
+
+    private void reorderDayLocked(Long dayId, List<Long> itemIds, Long version, String memberId) {
+        TripDay day = ownedDay(dayId, memberId);
+        expectVersion(day, version);
+
+        List<Long> current = tripItemRepository.findIdsByDay(dayId);
+        Set<Long> requested = new HashSet<>(itemIds);
+        if (requested.size() != itemIds.size()) {
+            throw new IllegalArgumentException("중복된 itemId가 있습니다.");
         }
-        item.setOrderNo(newOrderNo);
-        tripItemRepository.flush();
+        if (requested.size() != current.size() || !requested.containsAll(current)) {
+            throw new IllegalArgumentException("itemIds가 해당 Day의 아이템 목록과 일치하지 않습니다.");
+        }
+
+        itemOrdering.applyOrder(dayId, itemIds);
+        touchDay(day, 0, 0);
     }
 
+    // Day 간 이동 (출발/도착 Day 를 함께 잠금)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void moveItem(Long itemId, Long targetDayId, Integer newOrderNo, Long version, String memberId) {
+        Long srcDayId = dayIdOfItem(itemId);
+        dayLocks.withLocks(srcDayId, targetDayId, () -> transactionTemplate.execute(status -> {
+            moveItemLocked(itemId, srcDayId, targetDayId, newOrderNo, version, memberId);
+            return null;
+        }));
+    }
 
-    // Day 간 이동
-    @Transactional
-    public void moveItem(Long itemId, Long targetDayId, Integer newOrderNo, String memberId) {
-        TripItem item = tripItemRepository.findById(itemId)
-                .orElseThrow(() -> new EntityNotFoundException("item"));
-        ensurePlanOwnership(item.getTripDay().getTripPlan(), memberId);
+    private void moveItemLocked(Long itemId, Long srcDayId, Long targetDayId, Integer newOrderNo,
+                                Long version, String memberId) {
+        TripItem item = lockedItem(itemId, srcDayId, memberId);
 
-        Long srcDayId = item.getTripDay().getId();
-        int srcCur = item.getOrderNo();
-        int srcLast = tripItemRepository.countByTripDayId(srcDayId);
+        TripDay srcDay = item.getTripDay();
 
         if (srcDayId.equals(targetDayId)) {
-            if (newOrderNo != null) reorder(itemId, newOrderNo, memberId);
+            if (newOrderNo != null) reorderLocked(itemId, srcDayId, newOrderNo, version, memberId);
             return;
         }
+        expectVersion(item, version);
 
         TripDay targetDay = tripDayRepository.findById(targetDayId)
                 .orElseThrow(() -> new EntityNotFoundException("day"));
@@ -181,25 +370,20 @@ public class TripService {
             throw new IllegalArgumentException("다른 플랜으로 이동할 수 없습니다.");
         }
 
-        int targetLast = tripItemRepository.countByTripDayId(targetDayId);
+        int targetLast = targetDay.getItemCount();
         int pos = (newOrderNo == null) ? targetLast + 1 : newOrderNo;
         if (pos < 1 || pos > targetLast + 1) throw new IllegalArgumentException("orderNo 범위 오류");
 
-        // 타깃 자리 먼저 확보
-        if (pos <= targetLast) {
-            shift(targetDayId, pos, targetLast, +1);
-        }
+        itemOrdering.move(item, targetDay, pos, srcDay.getItemCount(), targetLast);
 
-        // 대상 피신 (소스 day의 유니크 회피)
-        parkItemTemporarily(item);
-
-        // Day 이동 + 최종 order 세팅 (타깃 day 유니크도 이미 자리 확보로 안전)
-        item.moveTo(targetDay, pos);
-        tripItemRepository.flush();
-
-        // 소스 day 빈자리 당기기
-        if (srcCur < srcLast) {
-            shift(srcDayId, srcCur + 1, srcLast, -1);
+        // 두 Day 모두 구성이 바뀜 (id 순으로 갱신해 행 잠금 순서를 고정). 같은 Plan 이라 Plan 합계는 그대로
+        long amount = amountOf(item.getAmount());
+        if (srcDayId < targetDayId) {
+            touchDay(srcDay, -1, -amount, false);
+            touchDay(targetDay, 1, amount, false);
+        } else {
+            touchDay(targetDay, 1, amount, false);
+            touchDay(srcDay, -1, -amount, false);
         }
     }
 
@@ -208,72 +392,265 @@ public class TripService {
         return tripPlanRepository.findMyPlansAll(memberId);
     }
 
-    public List<TripItem> shiftTimesForDay(Long tripDayId, int minutes, String memberId) {
-        TripDay day = tripDayRepository.findById(tripDayId)
-                .orElseThrow(() -> new EntityNotFoundException("day"));
-        ensurePlanOwnership(day.getTripPlan(), memberId);
+    /**
+     * 내 플랜 keyset 페이지. 정렬은 getMyPlans 와 같음 (시작일 desc, id desc, 시작일 없는 플랜은 맨 뒤)
+     * cursor 는 이전 페이지의 nextCursor ("yyyy-MM-dd,planId" / 시작일 없으면 ",planId")
+     */
+    @Transactional(readOnly = true)
+    public MyPlanPage getMyPlansPage(String memberId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) throw new IllegalArgumentException("size 범위 오류");
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<MyPlanRow> rows = new ArrayList<>(size + 1);
+        if (cursor == null || cursor.isBlank()) {
+            rows.addAll(tripPlanRepository.findMyDatedPlans(memberId, limit));
+        } else {
+            int comma = cursor.indexOf(',');
+            if (comma < 0) throw new IllegalArgumentException("cursor 형식 오류");
+            try {
+                Long afterId = Long.valueOf(cursor.substring(comma + 1));
+                if (comma == 0) {
+                    // 이미 시작일 없는 구간
+                    rows.addAll(tripPlanRepository.findMyUndatedPlansAfter(memberId, afterId, limit));
+                    return toPage(rows, size);
+                }
+                LocalDate afterDate = LocalDate.parse(cursor.substring(0, comma));
+                rows.addAll(tripPlanRepository.findMyDatedPlansAfter(memberId, afterDate, afterId, limit));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("cursor 형식 오류");
+            }
+        }
+
+        // 시작일 있는 플랜이 이 페이지에서 끝나면 시작일 없는 플랜으로 이어서 채운다
+        if (rows.size() <= size) {
+            rows.addAll(tripPlanRepository.findMyUndatedPlansAfter(
+                    memberId, Long.MAX_VALUE, PageRequest.of(0, size + 1 - rows.size())));
+        }
+        return toPage(rows, size);
+    }
+
+    private static MyPlanPage toPage(List<MyPlanRow> rows, int size) {
+        if (rows.size() <= size) return new MyPlanPage(rows, null);
+
+        List<MyPlanRow> page = rows.subList(0, size);
+        MyPlanRow last = page.get(size - 1);
+        String next = (last.startDate() == null ? "" : last.startDate().toString()) + "," + last.planId();
+        return new MyPlanPage(List.copyOf(page), next);
+    }
+
+    /** Day 의 모든 시작 시각을 minutes 만큼 이동 (UPDATE 1회) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ItemTimeRow> shiftTimesForDay(Long tripDayId, int minutes, Long version, String memberId) {
+        return inDayLock(tripDayId, () -> shiftTimesForDayLocked(tripDayId, minutes, version, memberId));
+    }
 
-        List<TripItem> items = tripItemRepository.findByTripDayIdOrderByOrderNoAsc(tripDayId);
-        if (minutes == 0 || items.isEmpty()) return items;
+    private List<ItemTimeRow> shiftTimesForDayLocked(Long tripDayId, int minutes, Long version, String memberId) {
+        TripDay day = ownedDay(tripDayId, memberId);
+        expectVersion(day, version);
 
+        List<ItemTimeRow> rows = shiftTimes(List.of(tripDayId), minutes);
+        if (minutes != 0) touchDay(day, 0, 0);
+        return rows;
+    }
+
+    /**
+     * Plan 의 모든 Day 에 같은 이동을 적용. 아이템 변경과 겹치지 않도록 Plan 의 Day 를 모두 잠근다
+     * (잠글 목록을 읽은 뒤에 추가된 Day 는 대상 아님)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ItemTimeRow> shiftTimesForPlan(Long planId, int minutes, Long version, String memberId) {
+        List<Long> dayIds = transactionTemplate.execute(status -> tripDayRepository.findIdsByPlan(planId));
+        return dayLocks.withLocks(dayIds, () -> transactionTemplate.execute(status ->
+                shiftTimesForPlanLocked(planId, dayIds, minutes, version, memberId)));
+    }
+
+    private List<ItemTimeRow> shiftTimesForPlanLocked(Long planId, List<Long> dayIds, int minutes,
+                                                      Long version, String memberId) {
+        TripPlan plan = getOwnedPlanOrThrow(planId, memberId);
+        expectVersion(plan, version);
+        if (dayIds.isEmpty()) return List.of();
+
+        List<ItemTimeRow> rows = shiftTimes(dayIds, minutes);
+        if (minutes != 0) {
+            if (tripPlanRepository.bumpVersion(planId, plan.getVersion()) == 0) {
+                throw VersionConflictException.stale("plan", planId);
+            }
+            tripDayRepository.bumpVersionsByPlan(planId);
+        }
+        return rows;
+    }
+
+    /**
+     * 이동 후에도 하루 안에 남는 시작 시각 범위 [lo, hi] 로 가드한 UPDATE 1회.
+     * 바뀐 행 수가 시작 시각이 있는 행 수보다 적으면 범위를 벗어난 행이 있는 것이므로 예외 → 전체 롤백
+     * (따로 세고 나서 UPDATE 하면 그 사이의 변경을 놓칠 수 있음)
+     */
+    private List<ItemTimeRow> shiftTimes(List<Long> dayIds, int minutes) {
         final int SECONDS_PER_DAY = 24 * 60 * 60;
         final int deltaSeconds = minutes * 60;
 
-        // 사전 검증: 하나라도 범위 벗어나면 전체 취소
-        for (TripItem it : items) {
-            if (it.getStartTime() == null) continue;
-            int newSec = it.getStartTime().toSecondOfDay() + deltaSeconds;
-            if (newSec < 0 || newSec >= SECONDS_PER_DAY) {
-                throw new IllegalArgumentException("시간 이동 결과가 하루 범위를 벗어납니다. itemId=" + it.getId());
-            }
+        if (deltaSeconds == 0) return tripItemRepository.findTimeRows(dayIds);
+
+        LocalTime lo, hi;
+        if (Math.abs(deltaSeconds) >= SECONDS_PER_DAY) {
+            // 어떤 시각도 범위 안에 남지 않음
+            lo = LocalTime.MAX;
+            hi = LocalTime.MIN;
+        } else if (deltaSeconds > 0) {
+            lo = LocalTime.MIN;
+            hi = LocalTime.ofSecondOfDay(SECONDS_PER_DAY - 1 - deltaSeconds);
+        } else {
+            lo = LocalTime.ofSecondOfDay(-deltaSeconds);
+            hi = LocalTime.ofSecondOfDay(SECONDS_PER_DAY - 1);
         }
 
-        for (TripItem it : items) {
-            if (it.getStartTime() == null) continue;
-            int newSec = it.getStartTime().toSecondOfDay() + deltaSeconds;
-            it.update(
-                    it.getTitle(),
-                    java.time.LocalTime.ofSecondOfDay(newSec),
-                    it.getAmount(),
-                    it.getMerchant(),
-                    it.getMemo()
-            );
+        int shifted = tripItemRepository.shiftStartTimes(dayIds, deltaSeconds, lo, hi);
+        List<ItemTimeRow> rows = tripItemRepository.findTimeRows(dayIds);
+        if (shifted != rows.stream().filter(r -> r.startTime() != null).count()) {
+            throw new IllegalArgumentException("시간 이동 결과가 하루 범위를 벗어납니다.");
         }
-        return items;
+        return rows;
     }
 
 
-    private static final int BIG = 100_000;
+    /**
+     * 응답용 순번 (order_no 가 정렬 키일 때도 1부터 연속).
+     * 추가 / 수정 응답은 잠금 안 또는 조회 문장에서 이미 채워 두므로 추가 쿼리 없음
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public int positionOf(TripItem item) {
+        return item.getPosition() != null ? item.getPosition() : itemOrdering.positionOf(item);
+    }
 
 
-    private void shift(Long dayId, int start, int end, int delta) {
-        if (start > end || delta == 0) return;
+    // ===== Day 잠금 =====
 
+    /** dayId 잠금 → 트랜잭션 실행/커밋 → 잠금 해제 */
+    private <T> T inDayLock(Long dayId, Supplier<T> action) {
+        return dayLocks.withLock(dayId, () -> transactionTemplate.execute(status -> action.get()));
+    }
 
-        tripItemRepository.offsetUp(dayId, start, end, BIG);
-        tripItemRepository.flush();
+    /**
+     * 잠글 Day 를 찾기 위한 조회. 짧은 트랜잭션으로 감싸서 커넥션을 바로 반납한다
+     * (NOT_SUPPORTED 범위에서 그냥 조회하면 EntityManager 가 커넥션을 쥔 채로 잠금을 기다림)
+     */
+    private Long dayIdOfItem(Long itemId) {
+        Long dayId = transactionTemplate.execute(status -> tripItemRepository.findDayIdById(itemId).orElse(null));
+        if (dayId == null) throw new EntityNotFoundException("item");
+        return dayId;
+    }
 
-        int down = BIG - delta;
-        tripItemRepository.normalizeAfterOffset(dayId, start + BIG, end + BIG, down);
-        tripItemRepository.flush();
+    /**
+     * 잠근 Day 에 아직 있는 아이템만 (조회 ~ 잠금 사이에 다른 Day 로 옮겨졌으면 409).
+     * Day 행을 함께 읽어 item_count 를 COUNT(*) 없이 쓴다 (잠금 안이라 이 트랜잭션 동안 정확)
+     */
+    private TripItem lockedItem(Long itemId, Long lockedDayId, String memberId) {
+        TripItem item = ownedItem(itemId, memberId);
+        if (!item.getTripDay().getId().equals(lockedDayId)) {
+            throw VersionConflictException.stale("item", itemId);
+        }
+        return item;
     }
 
+    // ===== 낙관적 동시성 =====
+    // 클라이언트가 보낸 version(null 이면 확인 생략)이 현재와 다르면 409 + 현재 상태
 
-    private void parkItemTemporarily(TripItem item) {
-        item.setOrderNo(BIG * 2); // NOT NULL만 만족하면 OK
-        tripItemRepository.flush();
+    private void expectVersion(TripPlan plan, Long expected) {
+        if (expected != null && !expected.equals(plan.getVersion())) {
+            throw new VersionConflictException("plan", planResponse(plan));
+        }
     }
 
+    private void expectVersion(TripDay day, Long expected) {
+        if (expected != null && !expected.equals(day.getVersion())) {
+            throw new VersionConflictException("day", dayResponse(day));
+        }
+    }
+
+    private void expectVersion(TripItem item, Long expected) {
+        if (expected != null && !expected.equals(item.getVersion())) {
+            throw new VersionConflictException("item", itemResponse(item));
+        }
+    }
+
+    /**
+     * 409 응답에 실을 현재 상태. 충돌한 트랜잭션이 롤백된 뒤 새 트랜잭션에서 커밋된 값을 읽는다
+     * (같은 트랜잭션에서는 스냅샷 / 1차 캐시 때문에 읽은 시점의 값이 보임). 대상이 없어졌으면 null
+     */
+    @Transactional(readOnly = true)
+    public Object currentState(String target, Long id) {
+        return switch (target) {
+            case "plan" -> tripPlanRepository.findById(id).filter(p -> !p.isDeleted()).map(this::planResponse).orElse(null);
+            case "day" -> tripDayRepository.findById(id).map(this::dayResponse).orElse(null);
+            case "item" -> tripItemRepository.findById(id).map(this::itemResponse).orElse(null);
+            default -> null;
+        };
+    }
+
+    private PlanResponse planResponse(TripPlan plan) {
+        return new PlanResponse(plan.getId(), plan.getTitle(), plan.isPublic(), plan.isCompleted(), plan.getVersion());
+    }
+
+    private DayResponse dayResponse(TripDay day) {
+        return new DayResponse(day.getId(), day.getTripDate(), day.getVersion());
+    }
+
+    private ItemResponse itemResponse(TripItem item) {
+        return new ItemResponse(item.getId(), item.getTitle(), item.getStartTime(), item.getAmount(),
+                item.getMerchant(), item.getMemo(), positionOf(item), item.getVersion());
+    }
+
+    /**
+     * Day 의 아이템 구성이 바뀌었음을 기록 (version +1, 아이템 수/금액 합계 증감) 하고 Plan 합계에도 반영.
+     * 이 요청이 Day 를 읽은 뒤 다른 요청이 먼저 바꿨으면 0 행 → 409, 트랜잭션 롤백
+     */
+    private void touchDay(TripDay day, int countDelta, long amountDelta) {
+        touchDay(day, countDelta, amountDelta, true);
+    }
+
+    private void touchDay(TripDay day, int countDelta, long amountDelta, boolean applyToPlan) {
+        if (tripDayRepository.bumpVersion(day.getId(), day.getVersion(), countDelta, amountDelta) == 0) {
+            throw VersionConflictException.stale("day", day.getId());
+        }
+        if (applyToPlan && (countDelta != 0 || amountDelta != 0)) {
+            tripPlanRepository.addTotals(day.getTripPlan().getId(), countDelta, amountDelta);
+        }
+    }
+
+    private static long amountOf(Integer amount) {
+        return amount == null ? 0 : amount;
+    }
+
+    // ===== 소유 확인 =====
+    // 대상 조회와 소유자 확인을 한 문장으로. 비었을 때만 다시 읽어 404 / 403 을 가린다
 
     @Transactional(readOnly = true)
     public TripPlan getOwnedPlanOrThrow(Long planId, String memberId) {
-        TripPlan plan = tripPlanRepository.findById(planId)
-                .orElseThrow(() -> new EntityNotFoundException("plan"));
-        ensurePlanOwnership(plan, memberId);
-        return plan;
+        return tripPlanRepository.findOwnedById(planId, memberId)
+                .orElseThrow(() -> ownershipFailure("plan", tripPlanRepository.findById(planId), memberId));
+    }
+
+    private TripDay ownedDay(Long dayId, String memberId) {
+        return tripDayRepository.findOwnedById(dayId, memberId)
+                .orElseThrow(() -> ownershipFailure("day",
+                        tripDayRepository.findById(dayId).map(TripDay::getTripPlan), memberId));
+    }
+
+    private TripItem ownedItem(Long itemId, String memberId) {
+        return tripItemRepository.findOwnedById(itemId, memberId)
+                .orElseThrow(() -> ownershipFailure("item",
+                        tripItemRepository.findById(itemId).map(i -> i.getTripDay().getTripPlan()), memberId));
+    }
+
+    private RuntimeException ownershipFailure(String target, Optional<TripPlan> plan, String memberId) {
+        plan.ifPresent(p -> ensurePlanOwnership(p, memberId));
+        return new EntityNotFoundException(target);
     }
 
     private void ensurePlanOwnership(TripPlan plan, String memberId) {
+        if (plan.isDeleted()) {
+            throw new EntityNotFoundException("plan");
+        }
         if (!plan.getMember().getMemberId().equals(memberId)) {
             throw new SecurityException("본인 소유가 아닙니다.");
         }
@@ -0,0 +1,93 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.config.TripTotalsProperties;
+import com.taebin.travelsay.domain.trip.TripDayRepository;
+import com.taebin.travelsay.domain.trip.TripPlanRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * trip_day / trip_plan 의 item_count, total_amount 를 trip_item 에서 다시 계산해 어긋난 행을 바로잡는다.
+ * 평소에는 TripService 가 증감으로 유지하고, 이 작업은 누락(직접 SQL 수정, 버그 등)을 잡아내는 용도.
+ * 기동 시에도 한 번 동기로 돌린다. 컬럼 추가 직후의 0 값으로 순서(item_count) 를 계산하면 안 되므로
+ * (ApplicationRunner 가 끝나야 readiness 가 ACCEPTING_TRAFFIC 이 됨).
+ * id 순 구간(chunk) 마다 트랜잭션을 따로 잡아서 한 번에 전체 테이블을 훑지 않는다 (TripPlanPurger 와 같은 방식)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TripTotalsReconciler implements ApplicationRunner {
+
+    private final TripDayRepository tripDayRepository;
+    private final TripPlanRepository tripPlanRepository;
+    private final TripTotalsProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    record Drift(List<Long> dayIds, List<Long> planIds) {
+        boolean isEmpty() {
+            return dayIds.isEmpty() && planIds.isEmpty();
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${spring.trip.totals.reconcile-initial-delay:PT1H}",
+               fixedDelayString = "${spring.trip.totals.reconcile-interval:PT1H}")
+    public Drift reconcile() {
+        List<Long> dayIds = inChunks(tripDayRepository::findIdsAfter,
+                tripDayRepository::findIdsWithTotalsDrift, tripDayRepository::recomputeTotals);
+        List<Long> planIds = inChunks(tripPlanRepository::findIdsAfter,
+                tripPlanRepository::findIdsWithTotalsDrift, tripPlanRepository::recomputeTotals);
+
+        Drift drift = new Drift(dayIds, planIds);
+        if (!drift.isEmpty()) {
+            log.warn("[Totals] drift fixed: days={} {} plans={} {}",
+                    dayIds.size(), head(dayIds), planIds.size(), head(planIds));
+        }
+        return drift;
+    }
+
+    /** chunk 크기만큼 id 경계를 잡고, 그 구간에서 어긋난 행만 다시 계산 (구간마다 트랜잭션 1개) */
+    private List<Long> inChunks(BiFunction<Long, Pageable, List<Long>> idsAfter,
+                                BiFunction<Long, Long, List<Long>> driftBetween,
+                                Function<Collection<Long>, Integer> recompute) {
+        Pageable chunk = PageRequest.of(0, properties.getReconcileChunkSize());
+        List<Long> fixed = new ArrayList<>();
+        long after = 0;
+        while (true) {
+            List<Long> ids = idsAfter.apply(after, chunk);
+            if (ids.isEmpty()) return fixed;
+
+            long from = ids.get(0), to = ids.get(ids.size() - 1);
+            List<Long> drifted = transactionTemplate.execute(status -> {
+                List<Long> found = driftBetween.apply(from, to);
+                if (!found.isEmpty()) recompute.apply(found);
+                return found;
+            });
+            if (drifted != null) fixed.addAll(drifted);
+
+            if (ids.size() < chunk.getPageSize()) return fixed;
+            after = to;
+        }
+    }
+
+    private static List<Long> head(List<Long> ids) {
+        return ids.size() <= 20 ? ids : ids.subList(0, 20);
+    }
+}
@@ -0,0 +1,31 @@
+package com.taebin.travelsay.service;
+
+import lombok.Getter;
+
+/**
+ * 클라이언트가 보낸 version 이 현재와 다름 → 409. current 는 응답에 실을 현재 상태.
+ * 조건부 UPDATE 가 0 행인 경우처럼 트랜잭션 안에서 최신 값을 읽을 수 없으면 stale(target, id) 로 던지고,
+ * 롤백 뒤에 GlobalExceptionHandler 가 TripService.currentState 로 다시 읽어 채운다
+ */
+@Getter
+public class VersionConflictException extends RuntimeException {
+
+    private final String target;
+    private final Long id;
+    private final Object current;
+
+    public VersionConflictException(String target, Object current) {
+        this(target, null, current);
+    }
+
+    private VersionConflictException(String target, Long id, Object current) {
+        super("다른 곳에서 먼저 수정되었습니다. target=" + target);
+        this.target = target;
+        this.id = id;
+        this.current = current;
+    }
+
+    public static VersionConflictException stale(String target, Long id) {
+        return new VersionConflictException(target, id, null);
+    }
+}
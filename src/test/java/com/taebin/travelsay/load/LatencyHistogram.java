@@ -0,0 +1,98 @@
+package com.taebin.travelsay.load;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 마이크로초 단위 log-linear 히스토그램 (2의 거듭제곱 구간을 8칸으로 나눔, 상대 오차 약 12%).
+ * 여러 스레드가 동시에 record 해도 잠금 없이 동작한다
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 8;
+    private static final int MAGNITUDES = 32;   // 2^32 us ≈ 71분까지
+
+    private final AtomicLongArray counts = new AtomicLongArray(MAGNITUDES * SUB_BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private volatile long maxMicros;
+
+    void record(long nanos) {
+        long micros = Math.max(1, nanos / 1_000);
+        counts.incrementAndGet(indexOf(micros));
+        total.increment();
+        sumMicros.add(micros);
+        if (micros > maxMicros) {
+            synchronized (this) {
+                if (micros > maxMicros) maxMicros = micros;
+            }
+        }
+    }
+
+    long count() {
+        return total.sum();
+    }
+
+    double meanMicros() {
+        long n = count();
+        return n == 0 ? 0 : (double) sumMicros.sum() / n;
+    }
+
+    long maxMicros() {
+        return maxMicros;
+    }
+
+    /** 해당 분위가 속한 구간의 상한 (보수적으로) */
+    long percentileMicros(double p) {
+        long n = count();
+        if (n == 0) return 0;
+        long rank = (long) Math.ceil(n * p / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return Math.min(upperBoundOf(i), maxMicros);
+        }
+        return maxMicros;
+    }
+
+    /** 비어있지 않은 구간만 (상한 us → 건수) */
+    Map<Long, Long> buckets() {
+        Map<Long, Long> out = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length(); i++) {
+            long c = counts.get(i);
+            if (c > 0) out.put(upperBoundOf(i), c);
+        }
+        return out;
+    }
+
+    /** 구간별 막대 그래프 (콘솔용) */
+    List<String> render(int width) {
+        Map<Long, Long> buckets = buckets();
+        long peak = buckets.values().stream().mapToLong(Long::longValue).max().orElse(1);
+        List<String> lines = new ArrayList<>(buckets.size());
+        for (Map.Entry<Long, Long> e : buckets.entrySet()) {
+            int bar = (int) Math.max(1, e.getValue() * width / peak);
+            lines.add(String.format("  <= %9.2f ms %8d %s", e.getKey() / 1000.0, e.getValue(), "#".repeat(bar)));
+        }
+        return lines;
+    }
+
+    private static int indexOf(long micros) {
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);   // floor(log2)
+        if (magnitude >= MAGNITUDES) return MAGNITUDES * SUB_BUCKETS - 1;
+        long base = 1L << magnitude;
+        int sub = (int) ((micros - base) * SUB_BUCKETS / base);
+        return magnitude * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBoundOf(int index) {
+        int magnitude = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        long base = 1L << magnitude;
+        return base + (base * (sub + 1) + SUB_BUCKETS - 1) / SUB_BUCKETS - 1;
+    }
+}
@@ -0,0 +1,51 @@
+package com.taebin.travelsay.load;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 규모 / 요청 비율. -Dload.xxx 로 덮어쓴다 (gradle loadTest -Dload.members=100 ...)
+ * weight 들은 합이 아니라 비율로만 쓰인다
+ */
+record LoadProfile(
+        int members,
+        int plansPerMember,
+        int daysPerPlan,
+        int itemsPerDay,
+        int threads,
+        Duration warmup,
+        Duration duration,
+        int loginWeight,
+        int myPlansWeight,
+        int planDetailWeight,
+        int listItemsWeight,
+        int reorderWeight,
+        long p99BudgetMillis
+) {
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                intProp("load.members", 20),
+                intProp("load.plans-per-member", 3),
+                intProp("load.days-per-plan", 5),
+                intProp("load.items-per-day", 10),
+                intProp("load.threads", 8),
+                Duration.ofSeconds(intProp("load.warmup-seconds", 5)),
+                Duration.ofSeconds(intProp("load.duration-seconds", 20)),
+                intProp("load.weight.login", 2),
+                intProp("load.weight.my-plans", 15),
+                intProp("load.weight.plan-detail", 30),
+                intProp("load.weight.list-items", 28),
+                intProp("load.weight.reorder", 25),
+                // 0 이면 p99 검사 생략 (리포트만)
+                Long.getLong("load.p99-budget-ms", 0L)
+        );
+    }
+
+    int totalWeight() {
+        return loginWeight + myPlansWeight + planDetailWeight + listItemsWeight + reorderWeight;
+    }
+
+    private static int intProp(String key, int defaultValue) {
+        return Integer.getInteger(key, defaultValue);
+    }
+}
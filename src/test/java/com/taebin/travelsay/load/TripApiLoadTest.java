@@ -0,0 +1,291 @@
+package com.taebin.travelsay.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taebin.travelsay.domain.member.Member;
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.member.MemberRole;
+import com.taebin.travelsay.domain.member.MemberStatus;
+import com.taebin.travelsay.domain.trip.TripItem;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemsRequest;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import com.taebin.travelsay.service.TripService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2(MySQL 모드) 위에서 앱을 띄워 /api/trips/** 와 로그인의 처리량 / 지연 분포를 잰다.
+ * 일반 test 에서는 제외 (@Tag("load")), gradle loadTest 로 실행. 규모와 비율은 LoadProfile 참고
+ *
+ * 결과: 콘솔 표 + 히스토그램, build/reports/load/load-report.json
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TripApiLoadTest {
+
+    private static final String PASSWORD = "load-test-pw";
+
+    enum Op { LOGIN, MY_PLANS, PLAN_DETAIL, LIST_ITEMS, REORDER }
+
+    /** 시드된 회원 한 명과 그 회원의 플랜 / Day / 아이템 id */
+    record SeededMember(String loginId, String token, List<Long> planIds, List<Long> dayIds,
+                        Map<Long, List<Long>> itemIdsByDay) {}
+
+    @LocalServerPort int port;
+
+    @Autowired TripService tripService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PasswordEncoder passwordEncoder;
+    @Autowired ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void replayReadAndReorderMix() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        List<SeededMember> members = seed(profile);
+
+        Map<Op, LatencyHistogram> histograms = new EnumMap<>(Op.class);
+        Map<Op, LongAdder> errors = new EnumMap<>(Op.class);
+        for (Op op : Op.values()) {
+            histograms.put(op, new LatencyHistogram());
+            errors.put(op, new LongAdder());
+        }
+        Map<String, LongAdder> errorStatuses = new ConcurrentHashMap<>();
+
+        long start = System.nanoTime();
+        long measureFrom = start + profile.warmup().toNanos();
+        long until = measureFrom + profile.duration().toNanos();
+
+        CountDownLatch done = new CountDownLatch(profile.threads());
+        for (int t = 0; t < profile.threads(); t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                    long now;
+                    while ((now = System.nanoTime()) < until) {
+                        SeededMember m = members.get(rnd.nextInt(members.size()));
+                        Op op = pick(profile, rnd.nextInt(profile.totalWeight()));
+
+                        int status;
+                        long begin = System.nanoTime();
+                        try {
+                            status = call(op, m, profile, rnd).statusCode();
+                        } catch (IOException e) {
+                            status = -1;
+                        }
+                        long elapsed = System.nanoTime() - begin;
+
+                        if (now < measureFrom) continue;
+                        histograms.get(op).record(elapsed);
+                        if (status < 200 || status >= 300) {
+                            errors.get(op).increment();
+                            errorStatuses.computeIfAbsent(op + " " + status, k -> new LongAdder()).increment();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "load-" + t);
+            worker.start();
+        }
+        done.await();
+
+        report(profile, histograms, errors);
+
+        assertThat(errorStatuses).as("non-2xx responses").isEmpty();
+        if (profile.p99BudgetMillis() > 0) {
+            for (Op op : Op.values()) {
+                assertThat(histograms.get(op).percentileMicros(99.0) / 1000.0)
+                        .as("%s p99 (ms)", op)
+                        .isLessThanOrEqualTo((double) profile.p99BudgetMillis());
+            }
+        }
+    }
+
+    // ===== 요청 =====
+
+    private HttpResponse<String> call(Op op, SeededMember m, LoadProfile profile, ThreadLocalRandom rnd)
+            throws IOException, InterruptedException {
+        return switch (op) {
+            case LOGIN -> send(post("/api/member/login",
+                    Map.of("loginId", m.loginId(), "password", PASSWORD), null));
+            case MY_PLANS -> send(get("/api/trips/plans/my/page?size=20", m.token()));
+            case PLAN_DETAIL -> send(get("/api/trips/plans/" + pickOne(m.planIds(), rnd) + "/detail", m.token()));
+            case LIST_ITEMS -> send(get("/api/trips/days/" + pickOne(m.dayIds(), rnd) + "/items", m.token()));
+            case REORDER -> {
+                // 드래그 한 번: 같은 Day 안에서 임의 아이템을 임의 위치로
+                List<Long> itemIds = m.itemIdsByDay().get(pickOne(m.dayIds(), rnd));
+                yield send(json("PATCH", "/api/trips/items/" + pickOne(itemIds, rnd) + "/order",
+                        Map.of("newOrderNo", 1 + rnd.nextInt(profile.itemsPerDay())), m.token()));
+            }
+        };
+    }
+
+    private static Op pick(LoadProfile p, int roll) {
+        if ((roll -= p.loginWeight()) < 0) return Op.LOGIN;
+        if ((roll -= p.myPlansWeight()) < 0) return Op.MY_PLANS;
+        if ((roll -= p.planDetailWeight()) < 0) return Op.PLAN_DETAIL;
+        if ((roll -= p.listItemsWeight()) < 0) return Op.LIST_ITEMS;
+        return Op.REORDER;
+    }
+
+    private static <T> T pickOne(List<T> values, ThreadLocalRandom rnd) {
+        return values.get(rnd.nextInt(values.size()));
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Object body, String token) throws IOException {
+        return json("POST", path, body, token);
+    }
+
+    private HttpRequest json(String method, String path, Object body, String token) throws IOException {
+        HttpRequest.Builder b = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (token != null) b.header("Authorization", "Bearer " + token);
+        return b.build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    // ===== 시드 =====
+
+    private List<SeededMember> seed(LoadProfile profile) throws IOException, InterruptedException {
+        // BCrypt 는 한 번만 (모든 회원이 같은 비밀번호)
+        String hash = passwordEncoder.encode(PASSWORD);
+        LocalDate start = LocalDate.of(2026, 1, 1);
+
+        List<SeededMember> out = new ArrayList<>(profile.members());
+        for (int u = 0; u < profile.members(); u++) {
+            String loginId = "load-user-" + u;
+            Member member = new Member();
+            member.setForSignup(loginId, hash, loginId + "@travelsay.com",
+                    String.format("010-%04d-%04d", u / 10_000, u % 10_000), MemberStatus.ACTIVE, MemberRole.USER);
+            String memberId = memberRepository.save(member).getMemberId();
+
+            List<Long> planIds = new ArrayList<>();
+            List<Long> dayIds = new ArrayList<>();
+            Map<Long, List<Long>> itemIdsByDay = new LinkedHashMap<>();
+            for (int p = 0; p < profile.plansPerMember(); p++) {
+                Long planId = tripService.createPlan(memberId, new CreatePlanRequest("plan " + p, false)).getId();
+                planIds.add(planId);
+                for (int d = 0; d < profile.daysPerPlan(); d++) {
+                    Long dayId = tripService.addDay(planId, start.plusDays(p * 30L + d), memberId).getId();
+                    dayIds.add(dayId);
+
+                    List<CreateItemRequest> rows = new ArrayList<>(profile.itemsPerDay());
+                    for (int i = 0; i < profile.itemsPerDay(); i++) {
+                        rows.add(new CreateItemRequest("item " + i, LocalTime.of(8 + i % 12, 0),
+                                1000 * (i + 1), "merchant", null, null));
+                    }
+                    List<TripItem> items = tripService.addItems(dayId, new CreateItemsRequest(null, rows), null, memberId);
+                    itemIdsByDay.put(dayId, items.stream().map(TripItem::getId).toList());
+                }
+            }
+
+            HttpResponse<String> login = send(post("/api/member/login",
+                    Map.of("loginId", loginId, "password", PASSWORD), null));
+            assertThat(login.statusCode()).isEqualTo(200);
+            String token = objectMapper.readTree(login.body()).get("accessToken").asText();
+
+            out.add(new SeededMember(loginId, token, planIds, dayIds, itemIdsByDay));
+        }
+        return out;
+    }
+
+    // ===== 리포트 =====
+
+    private void report(LoadProfile profile, Map<Op, LatencyHistogram> histograms, Map<Op, LongAdder> errors)
+            throws IOException {
+        double seconds = profile.duration().toMillis() / 1000.0;
+
+        StringBuilder sb = new StringBuilder()
+                .append(String.format("%nload: members=%d plans/member=%d days/plan=%d items/day=%d threads=%d duration=%ss%n",
+                        profile.members(), profile.plansPerMember(), profile.daysPerPlan(),
+                        profile.itemsPerDay(), profile.threads(), profile.duration().toSeconds()))
+                .append(String.format("%-12s %8s %6s %9s %9s %9s %9s %9s %9s%n",
+                        "op", "count", "err", "req/s", "mean ms", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("profile", profile);
+        Map<String, Object> ops = new LinkedHashMap<>();
+        long totalCount = 0;
+
+        for (Op op : Op.values()) {
+            LatencyHistogram h = histograms.get(op);
+            totalCount += h.count();
+            sb.append(String.format("%-12s %8d %6d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    op, h.count(), errors.get(op).sum(), h.count() / seconds, h.meanMicros() / 1000.0,
+                    h.percentileMicros(50) / 1000.0, h.percentileMicros(90) / 1000.0,
+                    h.percentileMicros(99) / 1000.0, h.maxMicros() / 1000.0));
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", h.count());
+            row.put("errors", errors.get(op).sum());
+            row.put("throughputPerSec", h.count() / seconds);
+            row.put("meanMicros", h.meanMicros());
+            row.put("p50Micros", h.percentileMicros(50));
+            row.put("p90Micros", h.percentileMicros(90));
+            row.put("p99Micros", h.percentileMicros(99));
+            row.put("p999Micros", h.percentileMicros(99.9));
+            row.put("maxMicros", h.maxMicros());
+            row.put("bucketsMicros", h.buckets());
+            ops.put(op.name(), row);
+        }
+        sb.append(String.format("total %.1f req/s%n", totalCount / seconds));
+
+        for (Op op : Op.values()) {
+            sb.append(op).append('\n');
+            histograms.get(op).render(40).forEach(line -> sb.append(line).append('\n'));
+        }
+        System.out.println(sb);
+
+        json.put("ops", ops);
+        Path out = Path.of("build", "reports", "load", "load-report.json");
+        Files.createDirectories(out.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out.toFile(), json);
+    }
+}
@@ -0,0 +1,113 @@
+package com.taebin.travelsay.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taebin.travelsay.domain.member.Member;
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.member.MemberRole;
+import com.taebin.travelsay.security.JwtTokenProvider;
+import com.taebin.travelsay.service.TripService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static com.taebin.travelsay.support.TestFixtures.newMember;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class PrometheusMetricsTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired TripService tripService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void serviceRepositoryAndFilterMetricsAreScraped() throws Exception {
+        mvc.perform(post("/api/member/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "loginId", "metrics-user",
+                                "password", "password123",
+                                "passwordConfirm", "password123",
+                                "email", "metrics@travelsay.com",
+                                "phoneNumber", "010-3333-4444"))))
+                .andExpect(status().isCreated());
+        String body = mvc.perform(post("/api/member/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "loginId", "metrics-user",
+                                "password", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String bearer = "Bearer " + objectMapper.readTree(body).get("accessToken").asText();
+
+        String created = mvc.perform(post("/api/trips/plans").header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"plan\",\"isPublic\":false}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long planId = objectMapper.readTree(created).get("id").asLong();
+        mvc.perform(get("/api/trips/plans/" + planId + "/detail").header("Authorization", bearer))
+                .andExpect(status().isOk());
+        assertThatThrownBy(() -> tripService.getPlanDetail(Long.MAX_VALUE, "nobody"))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        // 헬스체크만 공개, 메트릭은 ADMIN 만
+        mvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        mvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        mvc.perform(get("/actuator/prometheus").header("Authorization", bearer)).andExpect(status().isForbidden());
+
+        Member admin = memberRepository.findById(newMember(memberRepository, MemberRole.ADMIN)).orElseThrow();
+        String adminBearer = "Bearer " + jwtTokenProvider.createToken(admin.getMemberId(), admin.getLoginId(), admin.getTokenVersion());
+
+        // 서비스 예외의 HTTP 상태와 outcome 태그가 같은 매핑을 따름
+        mvc.perform(get("/api/trips/plans/" + Long.MAX_VALUE + "/detail").header("Authorization", bearer))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/trips/plans/" + planId + "/detail").header("Authorization", adminBearer))
+                .andExpect(status().isForbidden());
+        String scrape = mvc.perform(get("/actuator/prometheus").header("Authorization", adminBearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                // 지정 메서드는 버킷까지, outcome 태그로 실패 구분
+                .contains("trip_service_seconds_bucket{")
+                .containsPattern("trip_service_seconds_bucket\\{[^}]*method=\"getPlanDetail\"[^}]*outcome=\"SUCCESS\"")
+                .containsPattern("trip_service_seconds_count\\{[^}]*method=\"getPlanDetail\"[^}]*outcome=\"NOT_FOUND\"")
+                .containsPattern("trip_service_seconds_count\\{[^}]*method=\"getPlanDetail\"[^}]*outcome=\"FORBIDDEN\"")
+                .containsPattern("member_service_seconds_count\\{[^}]*method=\"login\"")
+                .containsPattern("spring_data_repository_invocations_seconds_count\\{[^}]*repository=\"TripPlanRepository\"")
+                .containsPattern("auth_filter_phase_seconds_count\\{[^}]*phase=\"verify\"")
+                .containsPattern("auth_filter_requests_total\\{[^}]*outcome=\"AUTHENTICATED\"")
+                .containsPattern("auth_token_cache_gets_total\\{[^}]*result=\"hit\"")
+                .containsPattern("auth_token_cache_gets_total\\{[^}]*result=\"miss\"")
+                .contains("auth_token_cache_evictions_total")
+                .contains("auth_token_cache_size");
+
+        // 촘촘한 버킷은 지정 메서드만 (나머지는 고정 버킷 몇 개), 예외 클래스명 태그는 없음
+        assertThat(countBuckets(scrape, "getPlanDetail")).isGreaterThan(countBuckets(scrape, "createPlan"));
+        assertThat(countBuckets(scrape, "createPlan")).isBetween(1L, 6L);
+        assertThat(scrape).doesNotContain("exception=\"EntityNotFoundException\"");
+    }
+
+    private static long countBuckets(String scrape, String method) {
+        return scrape.lines()
+                .filter(l -> l.startsWith("trip_service_seconds_bucket{"))
+                .filter(l -> l.contains("method=\"" + method + "\"") && l.contains("outcome=\"SUCCESS\""))
+                .count();
+    }
+}
@@ -0,0 +1,31 @@
+package com.taebin.travelsay.metrics;
+
+import com.taebin.travelsay.config.SqlBudgetProperties;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc 용 SQL 한도 검사. 운영 경고와 같은 표(sql-budget.yml)를 쓴다
+ * <pre>mvc.perform(get(...)).andExpect(withinSqlBudget(sqlBudgetProperties))</pre>
+ */
+public final class SqlBudgetMatchers {
+
+    private SqlBudgetMatchers() {}
+
+    public static ResultMatcher withinSqlBudget(SqlBudgetProperties properties) {
+        return result -> {
+            var req = result.getRequest();
+            Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            SqlStats stats = (SqlStats) req.getAttribute(SqlStats.ATTRIBUTE);
+            assertThat(pattern).as("handler pattern for %s", req.getRequestURI()).isNotNull();
+            assertThat(stats).as("SqlBudgetFilter did not run for %s", req.getRequestURI()).isNotNull();
+
+            int budget = properties.budgetFor(req.getMethod(), pattern.toString());
+            assertThat(stats.statements())
+                    .as("SQL statements for %s %s", req.getMethod(), pattern)
+                    .isLessThanOrEqualTo(budget);
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.taebin.travelsay.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taebin.travelsay.config.SqlBudgetProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.taebin.travelsay.metrics.SqlBudgetMatchers.withinSqlBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** 모든 API 를 한 번씩 호출해서 sql-budget.yml 한도 안인지 확인 (N+1 이 생기면 여기서 깨진다) */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SqlBudgetTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired SqlBudgetProperties sqlBudgetProperties;
+
+    private String bearer;
+
+    @Test
+    void everyEndpointStaysWithinItsStatementBudget() throws Exception {
+        call(post("/api/member/signup"), Map.of(
+                "loginId", "budget-user",
+                "password", "password123",
+                "passwordConfirm", "password123",
+                "email", "budget@travelsay.com",
+                "phoneNumber", "010-5555-6666"));
+        bearer = "Bearer " + call(post("/api/member/login"),
+                Map.of("loginId", "budget-user", "password", "password123")).get("accessToken").asText();
+        call(get("/api/member/me"), null);
+
+        long planId = call(post("/api/trips/plans"), Map.of("title", "plan", "isPublic", true)).get("id").asLong();
+        long dayA = call(post("/api/trips/plans/" + planId + "/days"), Map.of("tripDate", "2026-05-01")).get("id").asLong();
+        long dayB = call(post("/api/trips/plans/" + planId + "/days"), Map.of("tripDate", "2026-05-02")).get("id").asLong();
+
+        long first = call(post("/api/trips/days/" + dayA + "/items"),
+                Map.of("title", "first", "startTime", "09:00", "amount", 1000)).get("id").asLong();
+        JsonNode batch = call(post("/api/trips/days/" + dayA + "/items/batch"), Map.of("items", List.of(
+                Map.of("title", "a", "startTime", "10:00", "amount", 100),
+                Map.of("title", "b", "startTime", "11:00", "amount", 200),
+                Map.of("title", "c", "startTime", "12:00", "amount", 300))));
+        long second = batch.get(0).get("id").asLong();
+
+        call(get("/api/trips/days/" + dayA + "/items"), null);
+        call(get("/api/trips/plans/" + planId), null);
+        call(get("/api/trips/plans/" + planId + "/detail"), null);
+        call(get("/api/trips/plans/" + planId + "/days"), null);
+        call(get("/api/trips/plans/my"), null);
+        call(get("/api/trips/plans/my/page"), null);
+        call(get("/api/trips/plans/public"), null);
+
+        call(patch("/api/trips/items/" + first), Map.of("title", "renamed", "amount", 1500));
+        call(patch("/api/trips/items/" + first + "/order"), Map.of("newOrderNo", 3));
+        List<Long> order = List.of(batch.get(2).get("id").asLong(), batch.get(1).get("id").asLong(), second, first);
+        call(put("/api/trips/days/" + dayA + "/items/order"), Map.of("itemIds", order));
+        call(patch("/api/trips/items/" + second + "/move"), Map.of("targetDayId", dayB));
+        call(patch("/api/trips/days/" + dayA + "/items/shift-time"), Map.of("offset", "01:00"));
+        call(patch("/api/trips/plans/" + planId + "/items/shift-time"), Map.of("offset", "-00:30"));
+        call(patch("/api/trips/plans/" + planId), Map.of("title", "renamed", "isPublic", false, "isCompleted", true));
+
+        call(delete("/api/trips/items/" + first), null);
+        call(delete("/api/trips/days/" + dayB), null);
+        call(delete("/api/trips/plans/" + planId), null);
+
+        call(put("/api/member/update"), Map.of("currentPassword", "password123", "email", "budget2@travelsay.com"));
+        call(post("/api/member/logout"), null);
+    }
+
+    @Test
+    void statementCountIsExposedAsHeader() throws Exception {
+        mvc.perform(get("/api/trips/plans/public"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlBudgetFilter.COUNT_HEADER))
+                .andExpect(header().exists(SqlBudgetFilter.TIME_HEADER));
+    }
+
+    private JsonNode call(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        if (bearer != null) request.header("Authorization", bearer);
+        if (body != null) {
+            request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+        }
+        MvcResult result = mvc.perform(request)
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(withinSqlBudget(sqlBudgetProperties))
+                .andReturn();
+        String content = result.getResponse().getContentAsString();
+        return content.isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(content);
+    }
+}
@@ -0,0 +1,90 @@
+package com.taebin.travelsay.security;
+
+import com.taebin.travelsay.domain.member.Member;
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.dto.member.request.LoginRequest;
+import com.taebin.travelsay.dto.member.request.SignupRequest;
+import com.taebin.travelsay.service.MemberService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class PasswordHashingTest {
+
+    @Autowired MemberService memberService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PasswordEncoder passwordEncoder;
+
+    @Test
+    void loginRehashesWhenStoredCostDiffers() {
+        memberService.signup(new SignupRequest("rehash-user", "password123", "password123",
+                "rehash@travelsay.com", "010-7777-8888"));
+        Member member = memberRepository.findByLoginId("rehash-user").orElseThrow();
+        member.setPassword(new BCryptPasswordEncoder(4).encode("password123"));
+        memberRepository.save(member);
+
+        memberService.login(new LoginRequest("rehash-user", "password123"));
+
+        String stored = memberRepository.findByLoginId("rehash-user").orElseThrow().getPassword();
+        assertThat(BoundedPasswordEncoder.costOf(stored)).isEqualTo(10);
+        assertThat(passwordEncoder.upgradeEncoding(stored)).isFalse();
+        assertThat(passwordEncoder.matches("password123", stored)).isTrue();
+    }
+
+    @Test
+    void rejectsWhenWorkersAndQueueAreFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence raw) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return raw.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence raw, String encoded) {
+                return raw.toString().equals(encoded);
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 10, 1, 1);
+        try {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (encoder.queued() < 1 && System.nanoTime() < deadline) Thread.onSpinWait();
+
+            assertThatThrownBy(() -> encoder.encode("c")).isInstanceOf(PasswordHashingBusyException.class);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+        } finally {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void costIsReadFromTheHashPrefix() {
+        assertThat(BoundedPasswordEncoder.costOf("$2a$12$abcdefghijklmnopqrstuv")).isEqualTo(12);
+        assertThat(BoundedPasswordEncoder.costOf("{noop}password")).isEqualTo(-1);
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(12).encode("x"))).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding("{noop}password")).isFalse();
+    }
+}
@@ -0,0 +1,54 @@
+package com.taebin.travelsay.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenRevocationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper objectMapper;
+
+    @Test
+    void revokedTokenIsRejectedRightAfterLogout() throws Exception {
+        mvc.perform(post("/api/member/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "loginId", "revoke-user",
+                                "password", "password123",
+                                "passwordConfirm", "password123",
+                                "email", "revoke@travelsay.com",
+                                "phoneNumber", "010-1111-2222"))))
+                .andExpect(status().isCreated());
+
+        String body = mvc.perform(post("/api/member/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "loginId", "revoke-user",
+                                "password", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String bearer = "Bearer " + objectMapper.readTree(body).get("accessToken").asText();
+
+        // 캐시를 채운 상태에서 로그아웃
+        mvc.perform(get("/api/member/me").header("Authorization", bearer))
+                .andExpect(status().isOk());
+        mvc.perform(post("/api/member/logout").header("Authorization", bearer))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get("/api/member/me").header("Authorization", bearer))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,150 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.config.TripOrderingProperties;
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.trip.TripDay;
+import com.taebin.travelsay.domain.trip.TripDayRepository;
+import com.taebin.travelsay.domain.trip.TripItem;
+import com.taebin.travelsay.domain.trip.TripItemRepository;
+import com.taebin.travelsay.domain.trip.TripPlan;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.taebin.travelsay.support.TestFixtures.newMember;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DayLockStressTest {
+
+    private static final int THREADS = 16;
+    private static final int OPS_PER_THREAD = 40;
+    private static final int INITIAL_ITEMS = 20;
+
+    @Autowired TripService tripService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired TripItemRepository tripItemRepository;
+    @Autowired TripDayRepository tripDayRepository;
+    @Autowired TripOrderingProperties orderingProperties;
+
+    @Test
+    void concurrentShufflesOfOneDayKeepUniqueOrder() throws Exception {
+        String memberId = newMember(memberRepository);
+        TripPlan plan = tripService.createPlan(memberId, new CreatePlanRequest("plan", false));
+        Long dayId = tripService.addDay(plan.getId(), LocalDate.of(2026, 5, 1), memberId).getId();
+        List<Long> seed = addItems(dayId, INITIAL_ITEMS, memberId);
+
+        // 초기 아이템은 지우지 않으므로 순서 범위(1..INITIAL_ITEMS)는 항상 유효
+        runConcurrently(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+            List<Long> mine = new ArrayList<>();
+            for (int op = 0; op < OPS_PER_THREAD; op++) {
+                int kind = rnd.nextInt(10);
+                if (kind < 6) {
+                    Long itemId = seed.get(rnd.nextInt(seed.size()));
+                    tripService.reorder(itemId, 1 + rnd.nextInt(INITIAL_ITEMS), null, memberId);
+                } else if (kind < 8 || mine.isEmpty()) {
+                    TripItem added = tripService.addItem(dayId, new CreateItemRequest(
+                            "t", null, null, null, null, 1 + rnd.nextInt(INITIAL_ITEMS + 1)), null, memberId);
+                    mine.add(added.getId());
+                } else {
+                    tripService.deleteItem(mine.remove(rnd.nextInt(mine.size())), null, memberId);
+                }
+            }
+            return null;
+        });
+
+        assertOrdered(dayId);
+    }
+
+    @Test
+    void concurrentMovesBetweenTwoDaysDoNotDeadlock() throws Exception {
+        String memberId = newMember(memberRepository);
+        TripPlan plan = tripService.createPlan(memberId, new CreatePlanRequest("plan", false));
+        Long dayA = tripService.addDay(plan.getId(), LocalDate.of(2026, 5, 1), memberId).getId();
+        Long dayB = tripService.addDay(plan.getId(), LocalDate.of(2026, 5, 2), memberId).getId();
+        List<Long> seed = new ArrayList<>(addItems(dayA, INITIAL_ITEMS, memberId));
+        seed.addAll(addItems(dayB, INITIAL_ITEMS, memberId));
+
+        runConcurrently(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+            for (int op = 0; op < OPS_PER_THREAD; op++) {
+                Long itemId = seed.get(rnd.nextInt(seed.size()));
+                Long target = rnd.nextBoolean() ? dayA : dayB;
+                try {
+                    tripService.moveItem(itemId, target, 1, null, memberId);
+                } catch (VersionConflictException e) {
+                    // 조회 ~ 잠금 사이에 다른 스레드가 같은 아이템을 옮긴 경우 (정상적인 409)
+                }
+            }
+            return null;
+        });
+
+        assertOrdered(dayA);
+        assertOrdered(dayB);
+        assertThat(itemCount(dayA) + itemCount(dayB)).isEqualTo(2 * INITIAL_ITEMS);
+    }
+
+    private void runConcurrently(Callable<Void> worker) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return worker.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> f : futures) {
+                f.get(60, TimeUnit.SECONDS); // 실패/교착이면 여기서 예외
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** DENSE 면 1..n 연속, SPARSE 면 양수이고 겹치지 않는 증가 키 */
+    private void assertOrdered(Long dayId) {
+        List<Integer> orderNos = tripItemRepository.findByTripDayIdOrderByOrderNoAsc(dayId).stream()
+                .map(TripItem::getOrderNo)
+                .toList();
+        if (orderingProperties.getMode() == TripOrderingProperties.Mode.DENSE) {
+            assertThat(orderNos).containsExactlyElementsOf(
+                    IntStream.rangeClosed(1, orderNos.size()).boxed().toList());
+        } else {
+            assertThat(orderNos).allMatch(n -> n > 0).isSortedAccordingTo(Integer::compare).doesNotHaveDuplicates();
+        }
+    }
+
+    /** 실제 행 수. Day 의 item_count 도 같아야 한다 */
+    private int itemCount(Long dayId) {
+        int rows = tripItemRepository.findByTripDayIdOrderByOrderNoAsc(dayId).size();
+        assertThat(tripDayRepository.findById(dayId).orElseThrow().getItemCount()).isEqualTo(rows);
+        return rows;
+    }
+
+    private List<Long> addItems(Long dayId, int count, String memberId) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(tripService.addItem(dayId,
+                    new CreateItemRequest("item " + i, null, null, null, null, null), null, memberId).getId());
+        }
+        return ids;
+    }
+}
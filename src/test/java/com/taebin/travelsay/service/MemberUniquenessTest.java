@@ -0,0 +1,87 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.domain.member.Member;
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.member.MemberRole;
+import com.taebin.travelsay.domain.member.MemberStatus;
+import com.taebin.travelsay.dto.member.request.InactivateMemberRequest;
+import com.taebin.travelsay.dto.member.request.SignupRequest;
+import com.taebin.travelsay.dto.member.request.UpdateProfileRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static com.taebin.travelsay.support.TestFixtures.countStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class MemberUniquenessTest {
+
+    @Autowired MemberService memberService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void signupChecksAllUniqueColumnsInOneQuery() {
+        // 중복 검사 1 + INSERT 1
+        long statements = countStatements(entityManagerFactory, () -> memberService.signup(signup("uniq-a", "uniq-a@travelsay.com", "010-1000-0001")));
+        assertThat(statements).isEqualTo(2);
+
+        assertThatThrownBy(() -> memberService.signup(signup("uniq-a", "other@travelsay.com", "010-1000-0009")))
+                .hasMessage("이미 사용중인 아이디입니다.");
+        assertThatThrownBy(() -> memberService.signup(signup("uniq-b", "uniq-a@travelsay.com", "010-1000-0009")))
+                .hasMessage("이미 사용중인 이메일입니다.");
+        assertThatThrownBy(() -> memberService.signup(signup("uniq-b", "uniq-b@travelsay.com", "010-1000-0001")))
+                .hasMessage("이미 사용중인 전화번호입니다.");
+    }
+
+    @Test
+    void reactivationIgnoresOwnEmailAndPhone() {
+        memberService.signup(signup("uniq-c", "uniq-c@travelsay.com", "010-1000-0003"));
+        memberService.signup(signup("uniq-d", "uniq-d@travelsay.com", "010-1000-0004"));
+        String memberId = memberRepository.findByLoginId("uniq-c").orElseThrow().getMemberId();
+        memberService.inactivateMember(memberId, new InactivateMemberRequest("password123", "password123", true));
+
+        // 다른 회원의 이메일은 막고, 자기 이메일 / 전화번호로는 재가입
+        assertThatThrownBy(() -> memberService.signup(signup("uniq-c", "uniq-d@travelsay.com", "010-1000-0003")))
+                .hasMessage("이미 사용중인 이메일입니다.");
+        memberService.signup(signup("uniq-c", "uniq-c@travelsay.com", "010-1000-0003"));
+
+        assertThat(memberRepository.findByLoginId("uniq-c").orElseThrow().getStatus()).isEqualTo(MemberStatus.ACTIVE);
+    }
+
+    @Test
+    void updateProfileRejectsValuesUsedByOthers() {
+        memberService.signup(signup("uniq-e", "uniq-e@travelsay.com", "010-1000-0005"));
+        memberService.signup(signup("uniq-f", "uniq-f@travelsay.com", "010-1000-0006"));
+
+        assertThatThrownBy(() -> memberService.updateProfile("uniq-e",
+                new UpdateProfileRequest("password123", null, null, null, "uniq-f@travelsay.com", "010-1000-0007")))
+                .hasMessage("이미 사용중인 이메일입니다.");
+        assertThatThrownBy(() -> memberService.updateProfile("uniq-e",
+                new UpdateProfileRequest("password123", null, null, null, null, "010-1000-0006")))
+                .hasMessage("이미 사용중인 전화번호입니다.");
+    }
+
+    @Test
+    void constraintViolationIsTranslatedToTheSameMessage() {
+        memberService.signup(signup("uniq-g", "uniq-g@travelsay.com", "010-1000-0008"));
+
+        // 검사를 건너뛴 경쟁 요청이 먼저 저장한 상황
+        Member racer = new Member();
+        racer.setForSignup("uniq-h", "{noop}pw", "uniq-g@travelsay.com", "010-1000-0010",
+                MemberStatus.ACTIVE, MemberRole.USER);
+        assertThatThrownBy(() -> memberRepository.saveAndFlush(racer))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(e -> assertThat(MemberService.duplicateOf((DataIntegrityViolationException) e))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("이미 사용중인 이메일입니다."));
+    }
+
+    private static SignupRequest signup(String loginId, String email, String phone) {
+        return new SignupRequest(loginId, "password123", "password123", email, phone);
+    }
+}
@@ -0,0 +1,88 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.trip.TripDay;
+import com.taebin.travelsay.domain.trip.TripItem;
+import com.taebin.travelsay.domain.trip.TripPlan;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.item.request.UpdateItemRequest;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.taebin.travelsay.support.TestFixtures.countStatements;
+import static com.taebin.travelsay.support.TestFixtures.newMember;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class OwnershipQueryCountTest {
+
+    @Autowired TripService tripService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void itemOperationsCheckOwnershipInTheLookupQuery() {
+        String memberId = newMember(memberRepository);
+        TripPlan plan = tripService.createPlan(memberId, new CreatePlanRequest("plan", false));
+        Long dayA = tripService.addDay(plan.getId(), LocalDate.of(2026, 5, 1), memberId).getId();
+        Long dayB = tripService.addDay(plan.getId(), LocalDate.of(2026, 5, 2), memberId).getId();
+        List<Long> items = List.of(newItem(dayA, memberId), newItem(dayA, memberId), newItem(dayA, memberId));
+
+        // 조회(소유 확인 포함) 1 + item UPDATE 1
+        long update = countStatements(entityManagerFactory, () -> tripService.updateItem(items.get(0),
+                new UpdateItemRequest("renamed", null, 1000, null, null), null, memberId));
+        assertThat(update).isEqualTo(2);
+
+        // 조회(소유 확인 포함) 1 + 목록 1
+        long list = countStatements(entityManagerFactory, () -> tripService.listItems(dayA, memberId));
+        assertThat(list).isEqualTo(2);
+
+        // 아래는 잠글 Day 조회 1 + 조회(소유 확인 포함) 1 + 순서 정리 + Day / Plan 카운터 갱신
+        long reorder = countStatements(entityManagerFactory, () -> tripService.reorder(items.get(0), 3, null, memberId));
+        assertThat(reorder).isLessThanOrEqualTo(7);
+
+        long move = countStatements(entityManagerFactory, () -> tripService.moveItem(items.get(1), dayB, null, null, memberId));
+        assertThat(move).isLessThanOrEqualTo(9);
+
+        long delete = countStatements(entityManagerFactory, () -> tripService.deleteItem(items.get(2), null, memberId));
+        assertThat(delete).isLessThanOrEqualTo(7);
+
+        // 조회(소유 확인 포함) 1 + item / day DELETE 2 + plan 합계 갱신 1
+        long removeDay = countStatements(entityManagerFactory, () -> tripService.removeDay(dayB, null, memberId));
+        assertThat(removeDay).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void failedOwnershipStillDistinguishesMissingFromForeign() {
+        String owner = newMember(memberRepository);
+        String other = newMember(memberRepository);
+        TripPlan plan = tripService.createPlan(owner, new CreatePlanRequest("plan", false));
+        TripDay day = tripService.addDay(plan.getId(), LocalDate.of(2026, 5, 1), owner);
+        Long itemId = newItem(day.getId(), owner);
+
+        assertThatThrownBy(() -> tripService.listItems(day.getId(), other))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> tripService.deleteItem(itemId, null, other))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> tripService.getOwnedPlanOrThrow(plan.getId(), other))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> tripService.updateItem(Long.MAX_VALUE,
+                new UpdateItemRequest("x", null, null, null, null), null, owner))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("item");
+    }
+
+    private Long newItem(Long dayId, String memberId) {
+        TripItem item = tripService.addItem(dayId,
+                new CreateItemRequest("item", null, 1000, null, null, null), null, memberId);
+        return item.getId();
+    }
+}
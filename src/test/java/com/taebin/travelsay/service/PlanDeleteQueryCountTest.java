@@ -0,0 +1,81 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.trip.TripDay;
+import com.taebin.travelsay.domain.trip.TripDayRepository;
+import com.taebin.travelsay.domain.trip.TripItemRepository;
+import com.taebin.travelsay.domain.trip.TripPlan;
+import com.taebin.travelsay.domain.trip.TripPlanRepository;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemsRequest;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.taebin.travelsay.support.TestFixtures.countStatements;
+import static com.taebin.travelsay.support.TestFixtures.newMember;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PlanDeleteQueryCountTest {
+
+    @Autowired TripService tripService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired TripPlanRepository tripPlanRepository;
+    @Autowired TripDayRepository tripDayRepository;
+    @Autowired TripItemRepository tripItemRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void deletePlanUsesFixedStatementCount() {
+        String memberId = newMember(memberRepository);
+        Long smallPlan = newPlan(memberId, 1, 1);
+        Long bigPlan = newPlan(memberId, 30, 10);
+        assertThat(tripItemRepository.findByTripDayIdInOrderByOrderNoAsc(
+                tripDayRepository.findIdsByPlan(bigPlan))).hasSize(300);
+
+        long smallCount = countStatements(entityManagerFactory, () -> tripService.deletePlan(smallPlan, null, memberId));
+        long bigCount = countStatements(entityManagerFactory, () -> tripService.deletePlan(bigPlan, null, memberId));
+
+        // plan 조회 1 + item / day / plan DELETE 3
+        assertThat(bigCount).isEqualTo(smallCount);
+        assertThat(bigCount).isLessThanOrEqualTo(4);
+
+        assertThat(tripPlanRepository.existsById(bigPlan)).isFalse();
+        assertThat(tripDayRepository.findIdsByPlan(bigPlan)).isEmpty();
+    }
+
+    @Test
+    void removeDayUsesFixedStatementCount() {
+        String memberId = newMember(memberRepository);
+        Long planId = newPlan(memberId, 2, 10);
+        List<Long> dayIds = tripDayRepository.findIdsByPlan(planId);
+
+        long count = countStatements(entityManagerFactory, () -> tripService.removeDay(dayIds.get(1), null, memberId));
+
+        // day 조회(plan, 소유 확인 포함) 1 + item / day DELETE 2 + plan 합계 갱신 1
+        assertThat(count).isLessThanOrEqualTo(4);
+        assertThat(tripItemRepository.findIdsByDay(dayIds.get(1))).isEmpty();
+        assertThat(tripItemRepository.findIdsByDay(dayIds.get(0))).hasSize(10);
+    }
+
+    private Long newPlan(String memberId, int days, int itemsPerDay) {
+        TripPlan plan = tripService.createPlan(memberId, new CreatePlanRequest("plan", false));
+        LocalDate start = LocalDate.of(2026, 5, 1);
+        for (int d = 0; d < days; d++) {
+            TripDay day = tripService.addDay(plan.getId(), start.plusDays(d), memberId);
+            List<CreateItemRequest> items = new ArrayList<>();
+            for (int i = 0; i < itemsPerDay; i++) {
+                items.add(new CreateItemRequest("item " + i, null, 1000, null, null, null));
+            }
+            tripService.addItems(day.getId(), new CreateItemsRequest(null, items), null, memberId);
+        }
+        return plan.getId();
+    }
+}
@@ -0,0 +1,56 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.trip.TripDay;
+import com.taebin.travelsay.domain.trip.TripPlan;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import com.taebin.travelsay.dto.trip.plan.response.PlanDetailResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static com.taebin.travelsay.support.TestFixtures.countStatements;
+import static com.taebin.travelsay.support.TestFixtures.newMember;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PlanDetailQueryCountTest {
+
+    @Autowired TripService tripService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void planDetailQueryCountDoesNotGrowWithDays() {
+        String memberId = newMember(memberRepository);
+        Long shortPlan = newPlan(memberId, 2, 3);
+        Long longPlan = newPlan(memberId, 14, 3);
+
+        long shortCount = countStatements(entityManagerFactory, () -> tripService.getPlanDetail(shortPlan, memberId));
+        long longCount = countStatements(entityManagerFactory, () -> tripService.getPlanDetail(longPlan, memberId));
+
+        assertThat(longCount).isEqualTo(shortCount);
+        assertThat(longCount).isLessThanOrEqualTo(3);
+
+        PlanDetailResponse detail = tripService.getPlanDetail(longPlan, memberId);
+        assertThat(detail.days()).hasSize(14);
+        assertThat(detail.days()).allSatisfy(d -> assertThat(d.items()).hasSize(3));
+    }
+
+    private Long newPlan(String memberId, int days, int itemsPerDay) {
+        TripPlan plan = tripService.createPlan(memberId, new CreatePlanRequest("plan", false));
+        LocalDate start = LocalDate.of(2026, 5, 1);
+        for (int d = 0; d < days; d++) {
+            TripDay day = tripService.addDay(plan.getId(), start.plusDays(d), memberId);
+            for (int i = 0; i < itemsPerDay; i++) {
+                tripService.addItem(day.getId(),
+                        new CreateItemRequest("item " + i, null, 1000, null, null, null), null, memberId);
+            }
+        }
+        return plan.getId();
+    }
+}
@@ -0,0 +1,44 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import com.taebin.travelsay.dto.trip.plan.request.UpdatePlanRequest;
+import com.taebin.travelsay.dto.trip.plan.response.PublicPlanRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static com.taebin.travelsay.support.TestFixtures.newMember;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 비공개 전환 / 삭제된 플랜은 캐시 ttl 과 상관없이 바로 공개 피드에서 빠진다 */
+@SpringBootTest
+class PublicPlanFeedEvictionTest {
+
+    @Autowired TripService tripService;
+    @Autowired PublicPlanFeedService publicPlanFeedService;
+    @Autowired MemberRepository memberRepository;
+
+    @Test
+    void planLeavesTheFeedAsSoonAsItIsHiddenOrDeleted() {
+        String memberId = newMember(memberRepository);
+        Long hidden = tripService.createPlan(memberId, new CreatePlanRequest("to be hidden", true)).getId();
+        Long deleted = tripService.createPlan(memberId, new CreatePlanRequest("to be deleted", true)).getId();
+        publicPlanFeedService.evict();
+
+        // 이 시점의 피드 앞부분이 캐시됨
+        assertThat(feedIds()).contains(hidden, deleted);
+
+        tripService.updatePlan(hidden, new UpdatePlanRequest("to be hidden", false, false), null, memberId);
+        assertThat(feedIds()).doesNotContain(hidden).contains(deleted);
+
+        tripService.deletePlan(deleted, null, memberId);
+        assertThat(feedIds()).doesNotContain(hidden, deleted);
+    }
+
+    private List<Long> feedIds() {
+        return publicPlanFeedService.getPage(null, 100).items().stream().map(PublicPlanRow::planId).toList();
+    }
+}
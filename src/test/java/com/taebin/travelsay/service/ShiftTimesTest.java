@@ -0,0 +1,118 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.trip.TripItem;
+import com.taebin.travelsay.domain.trip.TripPlanRepository;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.item.response.ItemResponse;
+import com.taebin.travelsay.dto.trip.item.response.ItemTimeRow;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static com.taebin.travelsay.support.TestFixtures.newMember;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ShiftTimesTest {
+
+    @Autowired TripService tripService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired TripPlanRepository tripPlanRepository;
+
+    @Test
+    void dayShiftMovesTimedItemsAndSkipsUntimed() {
+        String memberId = newMember(memberRepository);
+        Long dayId = newDay(newPlan(memberId), LocalDate.of(2026, 5, 1), memberId);
+        add(dayId, "09:00", memberId);
+        add(dayId, null, memberId);
+        add(dayId, "22:00", memberId);
+
+        assertThat(times(tripService.shiftTimesForDay(dayId, 90, null, memberId)))
+                .containsExactly(LocalTime.of(10, 30), null, LocalTime.of(23, 30));
+        // 하한 경계 (10:30 - 10:30 = 00:00) 는 허용
+        assertThat(times(tripService.shiftTimesForDay(dayId, -630, null, memberId)))
+                .containsExactly(LocalTime.MIDNIGHT, null, LocalTime.of(13, 0));
+    }
+
+    @Test
+    void dayShiftOutOfRangeChangesNothing() {
+        String memberId = newMember(memberRepository);
+        Long dayId = newDay(newPlan(memberId), LocalDate.of(2026, 5, 1), memberId);
+        add(dayId, "09:00", memberId);
+        add(dayId, "23:30", memberId);
+        List<TripItem> before = tripService.listItems(dayId, memberId);
+
+        assertThatThrownBy(() -> tripService.shiftTimesForDay(dayId, 30, null, memberId))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tripService.shiftTimesForDay(dayId, -24 * 60, null, memberId))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        List<TripItem> after = tripService.listItems(dayId, memberId);
+        assertThat(after).extracting(TripItem::getStartTime).containsExactly(LocalTime.of(9, 0), LocalTime.of(23, 30));
+        assertThat(after).extracting(TripItem::getVersion)
+                .containsExactlyElementsOf(before.stream().map(TripItem::getVersion).toList());
+    }
+
+    @Test
+    void planShiftCoversEveryDayAndNumbersPerDay() {
+        String memberId = newMember(memberRepository);
+        Long planId = newPlan(memberId);
+        Long second = newDay(planId, LocalDate.of(2026, 5, 2), memberId);
+        Long first = newDay(planId, LocalDate.of(2026, 5, 1), memberId);
+        add(first, "08:00", memberId);
+        add(first, "12:00", memberId);
+        add(second, "07:15", memberId);
+        long version = tripPlanRepository.findById(planId).orElseThrow().getVersion();
+
+        List<ItemTimeRow> rows = tripService.shiftTimesForPlan(planId, -45, version, memberId);
+
+        assertThat(rows).extracting(ItemTimeRow::dayId).containsExactly(first, first, second);
+        assertThat(times(rows)).containsExactly(LocalTime.of(7, 15), LocalTime.of(11, 15), LocalTime.of(6, 30));
+        assertThat(ItemResponse.fromTimeRows(rows)).extracting(ItemResponse::orderNo).containsExactly(1, 2, 1);
+        assertThat(tripPlanRepository.findById(planId).orElseThrow().getVersion()).isGreaterThan(version);
+    }
+
+    @Test
+    void planShiftOutOfRangeOnOneDayRollsBackAllDays() {
+        String memberId = newMember(memberRepository);
+        Long planId = newPlan(memberId);
+        Long first = newDay(planId, LocalDate.of(2026, 5, 1), memberId);
+        Long second = newDay(planId, LocalDate.of(2026, 5, 2), memberId);
+        add(first, "08:00", memberId);
+        add(second, "00:20", memberId);
+        long version = tripPlanRepository.findById(planId).orElseThrow().getVersion();
+
+        assertThatThrownBy(() -> tripService.shiftTimesForPlan(planId, -30, null, memberId))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(tripService.listItems(first, memberId)).extracting(TripItem::getStartTime)
+                .containsExactly(LocalTime.of(8, 0));
+        assertThat(tripService.listItems(second, memberId)).extracting(TripItem::getStartTime)
+                .containsExactly(LocalTime.of(0, 20));
+        assertThat(tripPlanRepository.findById(planId).orElseThrow().getVersion()).isEqualTo(version);
+    }
+
+    private Long newPlan(String memberId) {
+        return tripService.createPlan(memberId, new CreatePlanRequest("plan", false)).getId();
+    }
+
+    private Long newDay(Long planId, LocalDate date, String memberId) {
+        return tripService.addDay(planId, date, memberId).getId();
+    }
+
+    private void add(Long dayId, String startTime, String memberId) {
+        tripService.addItem(dayId, new CreateItemRequest("item", startTime == null ? null : LocalTime.parse(startTime),
+                null, null, null, null), null, memberId);
+    }
+
+    private static List<LocalTime> times(List<ItemTimeRow> rows) {
+        return rows.stream().map(ItemTimeRow::startTime).toList();
+    }
+}
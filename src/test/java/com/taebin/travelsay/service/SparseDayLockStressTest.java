@@ -0,0 +1,8 @@
+package com.taebin.travelsay.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/** 같은 동시성 시나리오를 SPARSE 모드로 (gap 을 작게 잡아 재배치가 경합 중에 일어나도록) */
+@SpringBootTest(properties = {"spring.trip.ordering.mode=SPARSE", "spring.trip.ordering.gap=4"})
+class SparseDayLockStressTest extends DayLockStressTest {
+}
@@ -0,0 +1,161 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.trip.TripItem;
+import com.taebin.travelsay.domain.trip.TripItemRepository;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemsRequest;
+import com.taebin.travelsay.dto.trip.item.request.UpdateItemRequest;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.taebin.travelsay.support.TestFixtures.countStatements;
+import static com.taebin.travelsay.support.TestFixtures.newMember;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** SPARSE 모드 (gap 을 작게 잡아 틈이 금방 차서 재배치가 일어나도록) */
+@SpringBootTest(properties = {"spring.trip.ordering.mode=SPARSE", "spring.trip.ordering.gap=4"})
+class SparseItemOrderingTest {
+
+    @Autowired TripService tripService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired TripItemRepository tripItemRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void writeResponsesDoNotCountForThePosition() {
+        String memberId = newMember(memberRepository);
+        Long planId = tripService.createPlan(memberId, new CreatePlanRequest("plan", false)).getId();
+        Long dayId = tripService.addDay(planId, LocalDate.of(2026, 5, 1), memberId).getId();
+        for (int i = 0; i < 3; i++) add(dayId, memberId, null);
+
+        TripItem added = add(dayId, memberId, 2);
+        assertThat(countStatements(entityManagerFactory, () -> tripService.positionOf(added))).isZero();
+        assertThat(tripService.positionOf(added)).isEqualTo(2);
+
+        List<TripItem> batch = tripService.addItems(dayId, new CreateItemsRequest(1, List.of(
+                new CreateItemRequest("b1", null, null, null, null, null),
+                new CreateItemRequest("b2", null, null, null, null, null))), null, memberId);
+        assertThat(countStatements(entityManagerFactory, () -> tripService.positionOf(batch.get(0)))).isZero();
+        assertThat(batch).extracting(tripService::positionOf).containsExactly(1, 2);
+
+        // 조회(소유 확인 + 순번) 1 + item UPDATE 1
+        TripItem[] updated = new TripItem[1];
+        long update = countStatements(entityManagerFactory, () -> updated[0] = tripService.updateItem(added.getId(),
+                new UpdateItemRequest("renamed", null, null, null, null), null, memberId));
+        assertThat(update).isEqualTo(2);
+        assertThat(countStatements(entityManagerFactory, () -> tripService.positionOf(updated[0]))).isZero();
+        assertThat(tripService.positionOf(updated[0])).isEqualTo(4);
+    }
+
+    @Test
+    void fillingAGapRebalancesTheDay() {
+        String memberId = newMember(memberRepository);
+        Long dayId = newDay(memberId);
+        List<Long> model = new ArrayList<>();
+        for (int i = 0; i < 3; i++) model.add(add(dayId, memberId, null).getId());
+        assertThat(keys(dayId)).containsExactly(4, 8, 12);
+
+        // 맨 앞 틈 (0, 4) 에 2, 1 이 들어가고 세 번째에서 틈이 없어 재배치
+        model.add(0, add(dayId, memberId, 1).getId());
+        model.add(0, add(dayId, memberId, 1).getId());
+        assertThat(keys(dayId)).containsExactly(1, 2, 4, 8, 12);
+
+        model.add(0, add(dayId, memberId, 1).getId());
+        assertThat(keys(dayId)).containsExactly(4, 8, 12, 16, 20, 24);
+        assertOrder(dayId, memberId, model);
+
+        // 같은 Day 안에서 틈을 채우는 재정렬도 재배치로 이어짐
+        for (int i = 0; i < 4; i++) {
+            Long last = model.remove(model.size() - 1);
+            model.add(1, last);
+            tripService.reorder(last, 2, null, memberId);
+            assertOrder(dayId, memberId, model);
+        }
+    }
+
+    @Test
+    void reorderMoveAndDeleteKeepTheModelOrder() {
+        String memberId = newMember(memberRepository);
+        Long planId = tripService.createPlan(memberId, new CreatePlanRequest("plan", false)).getId();
+        Long[] days = {
+                tripService.addDay(planId, LocalDate.of(2026, 5, 1), memberId).getId(),
+                tripService.addDay(planId, LocalDate.of(2026, 5, 2), memberId).getId()};
+        List<List<Long>> model = List.of(new ArrayList<>(), new ArrayList<>());
+        for (int d = 0; d < 2; d++) {
+            for (int i = 0; i < 6; i++) model.get(d).add(add(days[d], memberId, null).getId());
+        }
+
+        Random rnd = new Random(42);
+        for (int op = 0; op < 80; op++) {
+            int d = rnd.nextInt(2);
+            List<Long> src = model.get(d);
+            int kind = rnd.nextInt(10);
+            if (kind < 4 && !src.isEmpty()) {
+                Long itemId = src.remove(rnd.nextInt(src.size()));
+                int pos = 1 + rnd.nextInt(src.size() + 1);
+                src.add(pos - 1, itemId);
+                tripService.reorder(itemId, pos, null, memberId);
+            } else if (kind < 7 && !src.isEmpty()) {
+                List<Long> dst = model.get(1 - d);
+                Long itemId = src.remove(rnd.nextInt(src.size()));
+                int pos = 1 + rnd.nextInt(dst.size() + 1);
+                dst.add(pos - 1, itemId);
+                tripService.moveItem(itemId, days[1 - d], pos, null, memberId);
+            } else if (kind < 8 && !src.isEmpty()) {
+                tripService.deleteItem(src.remove(rnd.nextInt(src.size())), null, memberId);
+            } else {
+                int pos = 1 + rnd.nextInt(src.size() + 1);
+                src.add(pos - 1, add(days[d], memberId, pos).getId());
+            }
+            assertOrder(days[0], memberId, model.get(0));
+            assertOrder(days[1], memberId, model.get(1));
+        }
+    }
+
+    @Test
+    void reorderDaySpreadsKeysByGap() {
+        String memberId = newMember(memberRepository);
+        Long dayId = newDay(memberId);
+        List<Long> model = new ArrayList<>();
+        for (int i = 0; i < 5; i++) model.add(add(dayId, memberId, 1).getId());
+
+        Collections.shuffle(model, new Random(7));
+        tripService.reorderDay(dayId, model, null, memberId);
+
+        assertThat(keys(dayId)).containsExactly(4, 8, 12, 16, 20);
+        assertOrder(dayId, memberId, model);
+    }
+
+    private Long newDay(String memberId) {
+        Long planId = tripService.createPlan(memberId, new CreatePlanRequest("plan", false)).getId();
+        return tripService.addDay(planId, LocalDate.of(2026, 5, 1), memberId).getId();
+    }
+
+    private List<Integer> keys(Long dayId) {
+        return tripItemRepository.findByTripDayIdOrderByOrderNoAsc(dayId).stream().map(TripItem::getOrderNo).toList();
+    }
+
+    /** 목록 순서가 모델과 같고, 응답 순번이 1..n 연속인지 */
+    private void assertOrder(Long dayId, String memberId, List<Long> expected) {
+        List<TripItem> items = tripService.listItems(dayId, memberId);
+        assertThat(items).extracting(TripItem::getId).containsExactlyElementsOf(expected);
+        assertThat(items).extracting(tripService::positionOf)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, items.size()).boxed().toList());
+    }
+
+    private TripItem add(Long dayId, String memberId, Integer position) {
+        return tripService.addItem(dayId,
+                new CreateItemRequest("item", null, null, null, null, position), null, memberId);
+    }
+}
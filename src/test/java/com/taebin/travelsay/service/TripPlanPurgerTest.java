@@ -0,0 +1,78 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.trip.TripDay;
+import com.taebin.travelsay.domain.trip.TripDayRepository;
+import com.taebin.travelsay.domain.trip.TripItemRepository;
+import com.taebin.travelsay.domain.trip.TripPlan;
+import com.taebin.travelsay.domain.trip.TripPlanRepository;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemsRequest;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import com.taebin.travelsay.dto.trip.plan.response.MyPlanRow;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.taebin.travelsay.support.TestFixtures.newMember;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.trip.delete.mode=SOFT",
+        "spring.trip.delete.purge-chunk-size=4"
+})
+class TripPlanPurgerTest {
+
+    @Autowired TripService tripService;
+    @Autowired TripPlanPurger tripPlanPurger;
+    @Autowired MemberRepository memberRepository;
+    @Autowired TripPlanRepository tripPlanRepository;
+    @Autowired TripDayRepository tripDayRepository;
+    @Autowired TripItemRepository tripItemRepository;
+
+    @Test
+    void softDeletedPlanIsHiddenThenPurgedInChunks() {
+        String memberId = newMember(memberRepository);
+        Long keep = newPlan(memberId, 1, 2);
+        Long doomed = newPlan(memberId, 3, 5);
+        Long dayId = tripDayRepository.findIdsByPlan(doomed).get(0);
+
+        tripService.deletePlan(doomed, null, memberId);
+
+        // 즉시 목록/소유 확인에서 사라짐, 데이터는 아직 남아있음
+        assertThat(tripService.getMyPlans(memberId)).extracting(MyPlanRow::planId).containsExactly(keep);
+        assertThatThrownBy(() -> tripService.getOwnedPlanOrThrow(doomed, memberId))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> tripService.listItems(dayId, memberId))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(tripItemRepository.findIdsByPlan(doomed, PageRequest.of(0, 100))).hasSize(15);
+
+        tripPlanPurger.purge();
+
+        assertThat(tripPlanRepository.existsById(doomed)).isFalse();
+        assertThat(tripDayRepository.findIdsByPlan(doomed)).isEmpty();
+        assertThat(tripItemRepository.findIdsByPlan(doomed, PageRequest.of(0, 100))).isEmpty();
+        assertThat(tripItemRepository.findIdsByPlan(keep, PageRequest.of(0, 100))).hasSize(2);
+    }
+
+    private Long newPlan(String memberId, int days, int itemsPerDay) {
+        TripPlan plan = tripService.createPlan(memberId, new CreatePlanRequest("plan", false));
+        LocalDate start = LocalDate.of(2026, 5, 1);
+        for (int d = 0; d < days; d++) {
+            TripDay day = tripService.addDay(plan.getId(), start.plusDays(d), memberId);
+            List<CreateItemRequest> items = new ArrayList<>();
+            for (int i = 0; i < itemsPerDay; i++) {
+                items.add(new CreateItemRequest("item " + i, null, 1000, null, null, null));
+            }
+            tripService.addItems(day.getId(), new CreateItemsRequest(null, items), null, memberId);
+        }
+        return plan.getId();
+    }
+}
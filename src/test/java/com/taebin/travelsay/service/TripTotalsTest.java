@@ -0,0 +1,110 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.trip.TripDayRepository;
+import com.taebin.travelsay.domain.trip.TripItem;
+import com.taebin.travelsay.domain.trip.TripPlan;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemsRequest;
+import com.taebin.travelsay.dto.trip.item.request.UpdateItemRequest;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import com.taebin.travelsay.dto.trip.plan.response.MyPlanRow;
+import com.taebin.travelsay.dto.trip.plan.response.PlanDetailResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.taebin.travelsay.support.TestFixtures.newMember;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 재계산 chunk 를 작게 잡아 구간 여러 개에 걸쳐 찾는지까지 확인 */
+@SpringBootTest(properties = "spring.trip.totals.reconcile-chunk-size=2")
+class TripTotalsTest {
+
+    @Autowired TripService tripService;
+    @Autowired TripTotalsReconciler reconciler;
+    @Autowired MemberRepository memberRepository;
+    @Autowired TripDayRepository tripDayRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void totalsFollowItemMutationsAndReconcilerFixesDrift() {
+        String memberId = newMember(memberRepository);
+        TripPlan plan = tripService.createPlan(memberId, new CreatePlanRequest("plan", false));
+        Long dayA = tripService.addDay(plan.getId(), LocalDate.of(2026, 5, 1), memberId).getId();
+        Long dayB = tripService.addDay(plan.getId(), LocalDate.of(2026, 5, 2), memberId).getId();
+        Long dayC = tripService.addDay(plan.getId(), LocalDate.of(2026, 5, 3), memberId).getId();
+
+        TripItem lunch = tripService.addItem(dayA, item("lunch", 12000), null, memberId);
+        TripItem taxi = tripService.addItem(dayA, item("taxi", null), null, memberId);
+        tripService.addItems(dayB, new CreateItemsRequest(null, List.of(item("hotel", 90000), item("tip", 1000))),
+                null, memberId);
+        tripService.addItem(dayC, item("museum", 7000), null, memberId);
+
+        tripService.updateItem(taxi.getId(), new UpdateItemRequest("taxi", null, 8000, null, null), null, memberId);
+        tripService.moveItem(lunch.getId(), dayB, 1, null, memberId);
+        tripService.deleteItem(taxi.getId(), null, memberId);
+        tripService.removeDay(dayC, null, memberId);
+
+        // A: 없음, B: hotel + tip + lunch
+        PlanDetailResponse detail = tripService.getPlanDetail(plan.getId(), memberId);
+        assertThat(detail.itemCount()).isEqualTo(3);
+        assertThat(detail.totalAmount()).isEqualTo(103000L);
+        assertThat(detail.days()).extracting(PlanDetailResponse.DayRow::itemCount).containsExactly(0, 3);
+        assertThat(detail.days()).extracting(PlanDetailResponse.DayRow::totalAmount).containsExactly(0L, 103000L);
+
+        MyPlanRow row = tripService.getMyPlans(memberId).get(0);
+        assertThat(row.itemCount()).isEqualTo(3);
+        assertThat(row.totalAmount()).isEqualTo(103000L);
+
+        TripTotalsReconciler.Drift clean = reconciler.reconcile();
+        assertThat(clean.dayIds()).doesNotContain(dayA, dayB);
+        assertThat(clean.planIds()).doesNotContain(plan.getId());
+
+        // 증감 누락을 흉내 → 재계산이 찾아서 바로잡음
+        transactionTemplate.executeWithoutResult(s -> tripDayRepository.addAmount(dayB, 500));
+        TripTotalsReconciler.Drift drift = reconciler.reconcile();
+        assertThat(drift.dayIds()).containsExactly(dayB);
+        assertThat(tripService.getPlanDetail(plan.getId(), memberId).days().get(1).totalAmount()).isEqualTo(103000L);
+    }
+
+    @Test
+    void countersLeftAtZeroByTheColumnMigrationAreRecomputedAtStartup() {
+        String memberId = newMember(memberRepository);
+        TripPlan plan = tripService.createPlan(memberId, new CreatePlanRequest("plan", false));
+        Long dayId = tripService.addDay(plan.getId(), LocalDate.of(2026, 5, 1), memberId).getId();
+        List<TripItem> seeded = tripService.addItems(dayId, new CreateItemsRequest(null,
+                List.of(item("a", 1000), item("b", 2000), item("c", 3000))), null, memberId);
+
+        // item_count / total_amount 컬럼이 막 추가된 상태 (기존 행은 기본값 0)
+        jdbcTemplate.update("update trip_day set item_count = 0, total_amount = 0 where trip_day_id = ?", dayId);
+        jdbcTemplate.update("update trip_plan set item_count = 0, total_amount = 0 where trip_plan_id = ?", plan.getId());
+
+        reconciler.run(new DefaultApplicationArguments());
+
+        TripItem added = tripService.addItem(dayId, new CreateItemRequest("d", null, 4000, null, null, 2), null, memberId);
+        tripService.deleteItem(seeded.get(0).getId(), null, memberId);
+        tripService.reorder(added.getId(), 3, null, memberId);
+
+        // b, c, d 순서로 1..3 빈틈 없이
+        List<TripItem> items = tripService.listItems(dayId, memberId);
+        assertThat(items).extracting(TripItem::getTitle).containsExactly("b", "c", "d");
+        assertThat(items).extracting(TripItem::getOrderNo).containsExactly(1, 2, 3);
+
+        PlanDetailResponse detail = tripService.getPlanDetail(plan.getId(), memberId);
+        assertThat(detail.itemCount()).isEqualTo(3);
+        assertThat(detail.totalAmount()).isEqualTo(9000L);
+        assertThat(detail.days()).extracting(PlanDetailResponse.DayRow::itemCount).containsExactly(3);
+    }
+
+    private static CreateItemRequest item(String title, Integer amount) {
+        return new CreateItemRequest(title, null, amount, null, null, null);
+    }
+}
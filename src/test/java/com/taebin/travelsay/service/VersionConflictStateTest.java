@@ -0,0 +1,111 @@
+package com.taebin.travelsay.service;
+
+import com.taebin.travelsay.controller.GlobalExceptionHandler;
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.trip.TripItem;
+import com.taebin.travelsay.domain.trip.TripItemRepository;
+import com.taebin.travelsay.dto.trip.day.response.DayResponse;
+import com.taebin.travelsay.dto.trip.item.request.CreateItemRequest;
+import com.taebin.travelsay.dto.trip.item.request.UpdateItemRequest;
+import com.taebin.travelsay.dto.trip.item.response.ItemResponse;
+import com.taebin.travelsay.dto.trip.plan.request.CreatePlanRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.taebin.travelsay.support.TestFixtures.newMember;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@SpringBootTest
+class VersionConflictStateTest {
+
+    @Autowired TripService tripService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired TripItemRepository tripItemRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired GlobalExceptionHandler handler;
+
+    @Test
+    void staleFlushReturnsTheCommittedItem() {
+        String memberId = newMember(memberRepository);
+        Long dayId = newDay(memberId);
+        Long itemId = add(dayId, "a", memberId);
+
+        // 읽고 커밋하기 전에 다른 요청이 먼저 커밋 → 커밋 시 @Version 검사 실패
+        Throwable thrown = catchThrowable(() -> transactionTemplate.executeWithoutResult(status -> {
+            tripService.updateItem(itemId, new UpdateItemRequest("mine", null, null, null, null), null, memberId);
+            CompletableFuture.runAsync(() -> tripService.updateItem(itemId,
+                    new UpdateItemRequest("theirs", null, null, null, null), null, memberId)).join();
+        }));
+        assertThat(thrown).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        ResponseEntity<Map<String, Object>> res = handler.handleStale((ObjectOptimisticLockingFailureException) thrown);
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(res.getBody().get("current")).isInstanceOfSatisfying(ItemResponse.class, current -> {
+            assertThat(current.title()).isEqualTo("theirs");
+            assertThat(current.orderNo()).isEqualTo(1);
+            assertThat(current.version()).isEqualTo(tripItemRepository.findById(itemId).orElseThrow().getVersion());
+        });
+    }
+
+    @Test
+    void conditionalUpdateConflictIsFilledAfterRollback() {
+        String memberId = newMember(memberRepository);
+        Long planId = tripService.createPlan(memberId, new CreatePlanRequest("plan", false)).getId();
+        Long dayId = tripService.addDay(planId, LocalDate.of(2026, 5, 1), memberId).getId();
+        add(dayId, "a", memberId);
+
+        // touchDay 의 조건부 UPDATE 가 0 행일 때처럼 id 만 실린 409
+        ResponseEntity<Map<String, Object>> res = handler.handleConflict(VersionConflictException.stale("day", dayId));
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(res.getBody().get("current")).isInstanceOfSatisfying(DayResponse.class, current -> {
+            assertThat(current.id()).isEqualTo(dayId);
+            assertThat(current.version()).isEqualTo(tripService.listDays(planId, memberId).get(0).getVersion());
+        });
+    }
+
+    @Test
+    void reorderingBumpsVersionsOfEveryMovedItem() {
+        String memberId = newMember(memberRepository);
+        Long dayId = newDay(memberId);
+        List<Long> ids = new ArrayList<>();
+        for (String title : List.of("a", "b", "c")) ids.add(add(dayId, title, memberId));
+        List<Long> before = versions(dayId);
+
+        // a 를 맨 뒤로 → b, c 는 한 칸씩 당겨짐 (벌크 UPDATE)
+        tripService.reorder(ids.get(0), 3, null, memberId);
+        List<Long> afterReorder = versions(dayId);
+        for (int i = 0; i < 3; i++) assertThat(afterReorder.get(i)).isGreaterThan(before.get((i + 1) % 3));
+
+        // 전체 순서 교체 (applyOrder) 도 마찬가지
+        tripService.reorderDay(dayId, List.of(ids.get(2), ids.get(1), ids.get(0)), null, memberId);
+        List<Long> afterApply = versions(dayId);
+        assertThat(afterApply.get(0)).isGreaterThan(afterReorder.get(1));
+        assertThat(afterApply.get(1)).isGreaterThan(afterReorder.get(0));
+        assertThat(afterApply.get(2)).isGreaterThan(afterReorder.get(2));
+    }
+
+    private List<Long> versions(Long dayId) {
+        return tripItemRepository.findByTripDayIdOrderByOrderNoAsc(dayId).stream().map(TripItem::getVersion).toList();
+    }
+
+    private Long newDay(String memberId) {
+        Long planId = tripService.createPlan(memberId, new CreatePlanRequest("plan", false)).getId();
+        return tripService.addDay(planId, LocalDate.of(2026, 5, 1), memberId).getId();
+    }
+
+    private Long add(Long dayId, String title, String memberId) {
+        return tripService.addItem(dayId, new CreateItemRequest(title, null, null, null, null, null), null, memberId).getId();
+    }
+}
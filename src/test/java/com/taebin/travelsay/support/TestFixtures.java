@@ -0,0 +1,44 @@
+package com.taebin.travelsay.support;
+
+import com.taebin.travelsay.domain.member.Member;
+import com.taebin.travelsay.domain.member.MemberRepository;
+import com.taebin.travelsay.domain.member.MemberRole;
+import com.taebin.travelsay.domain.member.MemberStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서비스 테스트 공용 픽스처.
+ * H2 / unique 제약을 모든 테스트가 공유하므로 회원 값은 JVM 전체 순번으로 만든다
+ * (전화번호는 다른 테스트가 직접 쓰는 010- 대신 019- 대역)
+ */
+public final class TestFixtures {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    private TestFixtures() {}
+
+    /** loginId / email / 전화번호가 겹치지 않는 ACTIVE 회원 (비밀번호는 {noop}pw) */
+    public static String newMember(MemberRepository memberRepository) {
+        return newMember(memberRepository, MemberRole.USER);
+    }
+
+    public static String newMember(MemberRepository memberRepository, MemberRole role) {
+        int n = SEQ.incrementAndGet();
+        Member m = new Member();
+        m.setForSignup("fixture-" + n, "{noop}pw", "fixture-" + n + "@travelsay.com",
+                String.format("019-%04d-%04d", n / 10_000, n % 10_000), MemberStatus.ACTIVE, role);
+        return memberRepository.save(m).getMemberId();
+    }
+
+    /** action 동안 준비된 JDBC statement 수 (hibernate.generate_statistics 필요) */
+    public static long countStatements(EntityManagerFactory entityManagerFactory, Runnable action) {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        action.run();
+        return stats.getPrepareStatementCount();
+    }
+}